@@ -0,0 +1,35 @@
+package maze;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// measures a headless batch of 100x100 mazes on more and more threads, the
+// mazes per second should grow with the threads up to the number of cores
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class BatchBenchmark {
+
+  static final int MAZES = 1024;
+
+  @Param({ "1", "2", "4", "8", "16", "32" })
+  int threads;
+
+  @Param({ "b", "d" })
+  String solver;
+
+  // each invocation makes MAZES mazes, so ops/s is mazes per second
+  @Benchmark
+  @OperationsPerInvocation(MAZES)
+  public long batch() {
+    MazeBatch batch = new MazeBatch(100, 100, MAZES, 1, this.solver, this.threads);
+    batch.run(new PrintWriter(Writer.nullWriter()));
+    return batch.pathTotal;
+  }
+}
@@ -0,0 +1,35 @@
+package maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// measures building a huge maze with boruvka's algo on more and more
+// threads, next to building the same size with kruskal's on one thread
+// 3163x3163 is about ten million cells
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class BoruvkaBenchmark {
+
+  @Param({ "1000", "3163" })
+  int size;
+
+  @Param({ "1", "2", "4", "8", "16", "32" })
+  int threads;
+
+  @Benchmark
+  public MazeGrid boruvka() {
+    return new BoruvkaMaze(this.size, this.size, 1, this.threads).grid;
+  }
+
+  // kruskal's algo is sequential, so this only needs to run for one thread
+  // count, e.g. -p threads=1
+  @Benchmark
+  public MazeGrid kruskal() {
+    return new Maze(this.size, this.size, 1).grid;
+  }
+}
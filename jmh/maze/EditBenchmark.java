@@ -0,0 +1,81 @@
+package maze;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// measures knocking down a random wall of a maze and putting it back up,
+// bringing the distances from the first cell up to date after each edit,
+// against searching the whole maze again after each edit
+// the knocked down walls make loops, so a few walls are left down to start
+// with, as in a maze the player has already edited
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class EditBenchmark {
+
+  static final int EDITS = 256;
+
+  @Param({ "100", "500", "1000" })
+  int size;
+
+  Maze maze;
+  IncrementalSolver routes;
+  int[] walls;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.maze = new Maze(this.size, this.size, 1);
+    SplittableRandom random = new SplittableRandom(2);
+    for (int i = 0; i < this.maze.grid.cells() / 100; i++) {
+      this.maze.knockDown(this.closedWall(random));
+    }
+    this.routes = this.maze.routes();
+    this.walls = new int[EDITS];
+    for (int i = 0; i < EDITS; i++) {
+      this.walls[i] = this.closedWall(random);
+    }
+  }
+
+  // a random wall between two cells that is still standing
+  int closedWall(SplittableRandom random) {
+    int edge = random.nextInt(this.maze.grid.edgeSlots());
+    while (!this.maze.grid.isEdge(edge) || this.maze.grid.isOpen(edge)) {
+      edge = random.nextInt(this.maze.grid.edgeSlots());
+    }
+    return edge;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(2 * EDITS)
+  public long incremental() {
+    long total = 0;
+    for (int edge : this.walls) {
+      this.maze.knockDown(edge);
+      total += this.routes.changedCount;
+      this.maze.putUp(edge);
+      total += this.routes.changedCount;
+    }
+    return total;
+  }
+
+  // searching again is so much slower that it only does a few edits
+  @Benchmark
+  @OperationsPerInvocation(8)
+  public long searchAgain() {
+    long total = 0;
+    for (int i = 0; i < 4; i++) {
+      this.maze.grid.carve(this.walls[i]);
+      this.maze.solver.breadthFirst(0, -1);
+      total += this.maze.solver.seenCount;
+      this.maze.grid.close(this.walls[i]);
+      this.maze.solver.breadthFirst(0, -1);
+      total += this.maze.solver.seenCount;
+    }
+    return total;
+  }
+}
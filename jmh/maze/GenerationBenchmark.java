@@ -0,0 +1,66 @@
+package maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// measures building a maze, as a whole and one step of the constructor at a
+// time, on square boards of the given size
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class GenerationBenchmark {
+
+  @Param({ "20", "100", "500", "2000" })
+  int size;
+
+  Maze maze;
+  long[] edges;
+  int[] sorted;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.maze = new Maze(this.size, this.size, 1);
+    this.edges = this.maze.allEdges();
+    this.sorted = this.maze.edgeSort(this.edges);
+  }
+
+  // the whole constructor
+  @Benchmark
+  public Maze construct() {
+    return new Maze(this.size, this.size, 1);
+  }
+
+  @Benchmark
+  public MazeGrid makeBoard() {
+    return this.maze.makeBoard();
+  }
+
+  @Benchmark
+  public long[] allEdges() {
+    return this.maze.allEdges();
+  }
+
+  @Benchmark
+  public int[] edgeSort() {
+    return this.maze.edgeSort(this.edges);
+  }
+
+  // minimumSpanningTree reorders the worklist it is given, so every call gets
+  // a copy of the sorted edges, the copy is a small part of the cost
+  @Benchmark
+  public int[] minimumSpanningTree() {
+    return this.maze.minimumSpanningTree(this.sorted.clone(), this.maze.grid);
+  }
+
+  // knocking down walls that are already down leaves the grid the same, so
+  // the same maze can be connected again and again
+  @Benchmark
+  public MazeGrid connectEdges() {
+    this.maze.connectEdges();
+    return this.maze.grid;
+  }
+}
@@ -0,0 +1,53 @@
+package maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// measures every generator, and solving the mazes each one makes, since
+// the texture of a maze changes how much of it bfs and dfs search
+// cells per second is the generate score times size * size, and the batch
+// (java -jar maze-game.jar batch 100 100 1000 1 b 1 prim) prints how many
+// cells the searches look at for each generator
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class GeneratorBenchmark {
+
+  @Param({ "kruskal", "eller", "backtracker", "prim", "wilson", "aldous-broder", "binary-tree",
+      "sidewinder" })
+  String generator;
+
+  @Param({ "100", "500" })
+  int size;
+
+  Maze maze;
+  long seed;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.maze = new Maze(this.size, this.size, 1, this.generator);
+  }
+
+  // a different maze every time, so the texture is measured and not one maze
+  @Benchmark
+  public MazeGrid generate() {
+    this.seed += 1;
+    return new Maze(this.size, this.size, this.seed, this.generator).grid;
+  }
+
+  @Benchmark
+  public int solveBreadthFirst() {
+    this.maze.solver.breadthFirst(0, this.maze.grid.cells() - 1);
+    return this.maze.solver.seenCount;
+  }
+
+  @Benchmark
+  public int solveDepthFirst() {
+    this.maze.solver.depthFirst(0, this.maze.grid.cells() - 1);
+    return this.maze.solver.seenCount;
+  }
+}
@@ -0,0 +1,65 @@
+package maze;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// measures HashMap lookups keyed by the vertex and edge views of a maze, the
+// way find, solveMaze and reconstruct used to look them up
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true" })
+public class LookupBenchmark {
+
+  @Param({ "20", "100" })
+  int size;
+
+  ArrayList<Vertex> vertices;
+  ArrayList<Edge> edges;
+  HashMap<Vertex, Vertex> vertexMap;
+  HashMap<Edge, Edge> edgeMap;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    MazeGame game = new MazeGame(this.size, this.size, 1);
+    this.vertices = new ArrayList<Vertex>();
+    this.edges = new ArrayList<Edge>();
+    this.vertexMap = new HashMap<Vertex, Vertex>();
+    this.edgeMap = new HashMap<Edge, Edge>();
+    for (ArrayList<Vertex> list : game.board()) {
+      for (Vertex vertex : list) {
+        this.vertices.add(vertex);
+        this.vertexMap.put(vertex, vertex);
+        for (Edge edge : vertex.outer) {
+          if (edge.from == vertex) {
+            this.edges.add(edge);
+            this.edgeMap.put(edge, edge);
+          }
+        }
+      }
+    }
+  }
+
+  // looks up 10000 vertices, going round the board
+  @Benchmark
+  @OperationsPerInvocation(10000)
+  public void vertexLookup(Blackhole hole) {
+    for (int i = 0; i < 10000; i++) {
+      hole.consume(this.vertexMap.get(this.vertices.get(i % this.vertices.size())));
+    }
+  }
+
+  // looks up 10000 knocked down walls, going round the board
+  @Benchmark
+  @OperationsPerInvocation(10000)
+  public void edgeLookup(Blackhole hole) {
+    for (int i = 0; i < 10000; i++) {
+      hole.consume(this.edgeMap.get(this.edges.get(i % this.edges.size())));
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package maze;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// measures answering a batch of distance queries, and of path queries, on a
+// 1000x1000 maze, where half the queries ask for a few hot pairs again and
+// again, with and without a cache and on more and more threads
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class QueryBenchmark {
+
+  static final int QUERIES = 65536;
+  static final int HOT = 1024;
+
+  @Param({ "1", "4", "16" })
+  int threads;
+
+  @Param({ "0", "4096" })
+  int cache;
+
+  Maze maze;
+  int[] sources;
+  int[] targets;
+  MazeQueries queries;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.maze = new Maze(1000, 1000, 1);
+    SplittableRandom random = new SplittableRandom(2);
+    int cells = this.maze.grid.cells();
+    this.sources = new int[QUERIES];
+    this.targets = new int[QUERIES];
+    for (int i = 0; i < QUERIES; i++) {
+      if (random.nextBoolean()) {
+        int pair = random.nextInt(HOT);
+        this.sources[i] = (int) ((pair * 7919L) % cells);
+        this.targets[i] = (int) ((pair * 104729L) % cells);
+      }
+      else {
+        this.sources[i] = random.nextInt(cells);
+        this.targets[i] = random.nextInt(cells);
+      }
+    }
+  }
+
+  // a fresh cache every iteration, so it warms up inside the measurement
+  @Setup(Level.Iteration)
+  public void makeQueries() {
+    this.queries = new MazeQueries(this.maze, this.threads, this.cache);
+  }
+
+  // each invocation answers QUERIES queries, so ops/s is queries per second
+  @Benchmark
+  @OperationsPerInvocation(QUERIES)
+  public int[] answer() {
+    return this.queries.distances(this.sources, this.targets);
+  }
+
+  // the same queries answered with their paths
+  @Benchmark
+  @OperationsPerInvocation(QUERIES)
+  public int[][] paths() {
+    return this.queries.paths(this.sources, this.targets);
+  }
+}
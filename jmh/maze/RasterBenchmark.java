@@ -0,0 +1,37 @@
+package maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// measures drawing a whole solved maze into an ARGB raster 2 pixels a cell,
+// the walls and then the cells seen and the path, as the picture command
+// does before it writes the png
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class RasterBenchmark {
+
+  @Param({ "1000", "4000" })
+  int size;
+
+  Maze maze;
+  MazeRaster raster;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.maze = new Maze(this.size, this.size, 1, Maze.ELLER);
+    this.maze.solver.solve(MazeSolver.BREADTH_FIRST, 0, this.maze.grid.cells() - 1);
+    this.raster = new MazeRaster(this.maze.grid, 2);
+  }
+
+  @Benchmark
+  public int draw() {
+    this.raster.draw();
+    this.raster.color(this.maze.solver);
+    return this.raster.pixels[this.raster.pixels.length - 1];
+  }
+}
@@ -0,0 +1,94 @@
+package maze;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.ArrayList;
+
+import javalib.impworld.WorldScene;
+import javalib.worldimages.WorldImage;
+import org.openjdk.jmh.annotations.*;
+
+// measures drawing one frame of a solved maze with the whole path showing,
+// and one tick of the animation with the frame after it, which only paints
+// the cells that tick colored in, and asking every vertex and edge of the
+// solved maze for its picture, as a caller drawing the views would
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class SceneBenchmark {
+
+  @Param({ "20", "100", "500", "2000" })
+  int size;
+
+  MazeGame game;
+  MazeGame animated;
+  ArrayList<Vertex> cells;
+  ArrayList<Edge> edges;
+  ArrayList<Vertex> seen;
+  ArrayList<Vertex> path;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.game = new MazeGame(this.size, this.size, 1);
+    this.game.onKeyEvent("b");
+    while (!this.game.player.isDone()) {
+      this.game.onTick();
+    }
+    this.animated = new MazeGame(this.size, this.size, 1);
+    this.animated.makeScene();
+    this.animated.onKeyEvent("b");
+
+    this.seen = this.game.seenVertices();
+    this.path = this.game.pathVertices();
+    this.cells = new ArrayList<Vertex>();
+    this.edges = new ArrayList<Edge>();
+    for (ArrayList<Vertex> column : this.game.board()) {
+      for (Vertex v : column) {
+        this.cells.add(v);
+        for (Edge e : v.outer) {
+          if (e.from == v) {
+            this.edges.add(e);
+          }
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public WorldScene makeScene() {
+    return this.game.makeScene();
+  }
+
+  // solves the maze again each time the animation is done
+  @Benchmark
+  public WorldScene tick() {
+    if (this.animated.player.isDone()) {
+      this.animated.onKeyEvent("b");
+    }
+    this.animated.onTick();
+    return this.animated.makeScene();
+  }
+
+  // the pictures of every cell, knocked down wall, searched cell and path
+  // cell, the way makeScene used to ask for them every frame
+  @Benchmark
+  public int drawViews() {
+    int pictures = 0;
+    for (Vertex v : this.cells) {
+      pictures += v.drawCellVertex().hashCode() & 1;
+    }
+    for (Edge e : this.edges) {
+      pictures += e.drawEdge().hashCode() & 1;
+    }
+    for (Vertex v : this.seen) {
+      pictures += v.drawSearch().hashCode() & 1;
+    }
+    for (int i = 0; i < this.path.size(); i++) {
+      pictures += this.path.get(i).drawCorrect(this.game.pathBands[i]).hashCode() & 1;
+    }
+    return pictures;
+  }
+}
@@ -0,0 +1,80 @@
+package maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// measures solving one maze from the top left to the bottom right with each
+// search, and reconstructing the path once the search has found it, and
+// switching the game back and forth between two searches it has traces of
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class SolveBenchmark {
+
+  @Param({ "20", "100", "500", "2000" })
+  int size;
+
+  MazeGame game;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.game = new MazeGame(this.size, this.size, 1);
+    this.game.solveMaze("b");
+  }
+
+  // the game keeps the trace of every search until the walls change, so it
+  // is dropped to make the game solve again
+  @Benchmark
+  public int solveBreadthFirst() {
+    this.game.traces.clear();
+    this.game.solveMaze("b");
+    return this.game.player.trace.seen.length;
+  }
+
+  @Benchmark
+  public int solveDepthFirst() {
+    this.game.traces.clear();
+    this.game.solveMaze("d");
+    return this.game.player.trace.seen.length;
+  }
+
+  @Benchmark
+  public int switchReplays() {
+    this.game.solveMaze("b");
+    this.game.solveMaze("d");
+    return this.game.player.trace.seen.length;
+  }
+
+  // the searches below go straight to the solver, so the score is the search
+  // alone, and the seen count they return is the cells each looked at
+
+  @Benchmark
+  public int solveAStar() {
+    this.game.maze.solver.aStar(0, this.game.maze.grid.cells() - 1);
+    return this.game.maze.solver.seenCount;
+  }
+
+  @Benchmark
+  public int solveTwoWay() {
+    this.game.maze.solver.twoWay(0, this.game.maze.grid.cells() - 1);
+    return this.game.maze.solver.seenCount;
+  }
+
+  @Benchmark
+  public int solveDeadEndFill() {
+    this.game.maze.solver.deadEndFill(0, this.game.maze.grid.cells() - 1);
+    return this.game.maze.solver.seenCount;
+  }
+
+  // the parents from the search in setUp stay in the solver, so the path can
+  // be walked back again without searching
+  @Benchmark
+  public int reconstruct() {
+    this.game.maze.solver.reconstruct(this.game.maze.grid.cells() - 1);
+    return this.game.maze.solver.pathCount;
+  }
+}
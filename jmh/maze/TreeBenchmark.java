@@ -0,0 +1,82 @@
+package maze;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// measures building the tree index of a maze and answering distance and
+// path queries between random cells with it, next to answering the same
+// queries by searching the maze every time
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class TreeBenchmark {
+
+  static final int QUERIES = 4096;
+  // searching is so much slower that it gets fewer queries
+  static final int SEARCHES = 16;
+
+  @Param({ "100", "500", "1000" })
+  int size;
+
+  Maze maze;
+  MazeTree tree;
+  int[] sources;
+  int[] targets;
+  int[] out;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    this.maze = new Maze(this.size, this.size, 1);
+    this.tree = this.maze.tree();
+    SplittableRandom random = new SplittableRandom(2);
+    this.sources = new int[QUERIES];
+    this.targets = new int[QUERIES];
+    for (int i = 0; i < QUERIES; i++) {
+      this.sources[i] = random.nextInt(this.maze.grid.cells());
+      this.targets[i] = random.nextInt(this.maze.grid.cells());
+    }
+    this.out = new int[this.maze.grid.cells()];
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public MazeTree buildIndex() {
+    return new MazeTree(this.maze.grid);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(QUERIES)
+  public long distance() {
+    long total = 0;
+    for (int i = 0; i < QUERIES; i++) {
+      total += this.tree.distance(this.sources[i], this.targets[i]);
+    }
+    return total;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(QUERIES)
+  public long path() {
+    long total = 0;
+    for (int i = 0; i < QUERIES; i++) {
+      total += this.tree.path(this.sources[i], this.targets[i], this.out);
+    }
+    return total;
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(SEARCHES)
+  public long searchEveryTime() {
+    long total = 0;
+    for (int i = 0; i < SEARCHES; i++) {
+      this.maze.solver.breadthFirst(this.sources[i], this.targets[i]);
+      total += this.maze.solver.pathCount;
+    }
+    return total;
+  }
+}
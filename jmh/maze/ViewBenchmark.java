@@ -0,0 +1,66 @@
+package maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+// measures moving the window over a maze far bigger than it, zoomed all the
+// way in and zoomed out to the pyramid, and zooming out from the closest zoom
+// to the whole maze and back, which makes the pyramid the first time
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Djava.awt.headless=true", "-Xmx8g" })
+public class ViewBenchmark {
+
+  @Param({ "1000", "5000" })
+  int size;
+
+  MazeCanvas close;
+  MazeCanvas far;
+  MazeCanvas zooming;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Maze maze = new Maze(this.size, this.size, 1, Maze.ELLER);
+    this.close = new MazeCanvas(maze.grid);
+    this.far = new MazeCanvas(maze.grid);
+    while (this.far.detailed()) {
+      this.far.zoomOut();
+    }
+    this.zooming = new MazeCanvas(maze.grid);
+    this.close.moveTo(this.close.mazeWidth() / 2, this.close.mazeHeight() / 2);
+    this.far.moveTo(0, 0);
+  }
+
+  // moves the window a quarter of its size and back, two frames
+  @Benchmark
+  public int panClose() {
+    this.close.pan(this.close.width / 4, this.close.height / 4);
+    this.close.pan(-this.close.width / 4, -this.close.height / 4);
+    return this.close.left;
+  }
+
+  @Benchmark
+  public int panFar() {
+    this.far.pan(this.far.width / 4, this.far.height / 4);
+    this.far.pan(-this.far.width / 4, -this.far.height / 4);
+    return this.far.left;
+  }
+
+  // zooms out until the whole maze fits, then all the way back in
+  @Benchmark
+  public int zoomOutAndIn() {
+    while (this.zooming.mazeWidth() > this.zooming.width
+        || this.zooming.mazeHeight() > this.zooming.height) {
+      this.zooming.zoomOut();
+    }
+    int zoom = this.zooming.zoom;
+    while (this.zooming.zoom > 0) {
+      this.zooming.zoomIn();
+    }
+    return zoom;
+  }
+}
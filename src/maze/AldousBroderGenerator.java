@@ -0,0 +1,27 @@
+package maze;
+
+// aldous-broder's algo: walks at random over the whole grid, knocking down
+// the wall it goes through whenever it steps into a cell for the first time
+// picks every possible maze with the same chance, but takes a long time to
+// find the last few cells on a big grid
+class AldousBroderGenerator implements MazeGenerator {
+  public void generate(Maze maze) {
+    MazeGrid grid = maze.grid;
+    boolean[] visited = new boolean[grid.cells()];
+    int[] around = new int[4];
+
+    int cell = maze.random.nextInt(grid.cells());
+    visited[cell] = true;
+    int left = grid.cells() - 1;
+    while (left > 0) {
+      int count = grid.adjacent(cell, around);
+      int next = around[maze.random.nextInt(count)];
+      if (!visited[next]) {
+        grid.carve(grid.edgeBetween(cell, next));
+        visited[next] = true;
+        left -= 1;
+      }
+      cell = next;
+    }
+  }
+}
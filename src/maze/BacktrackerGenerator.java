@@ -0,0 +1,41 @@
+package maze;
+
+// the recursive backtracker, a random depth first walk: keeps going to a
+// random cell it hasn't been to, and backs up when there is none
+// it keeps its own stack of cells instead of recursing, so big mazes don't
+// run out of call stack, and it makes long winding corridors with few
+// branches
+class BacktrackerGenerator implements MazeGenerator {
+  public void generate(Maze maze) {
+    MazeGrid grid = maze.grid;
+    int[] stack = new int[grid.cells()];
+    boolean[] visited = new boolean[grid.cells()];
+    int[] around = new int[4];
+    int[] fresh = new int[4];
+
+    int start = maze.random.nextInt(grid.cells());
+    int top = 0;
+    stack[top++] = start;
+    visited[start] = true;
+
+    while (top > 0) {
+      int cell = stack[top - 1];
+      int count = grid.adjacent(cell, around);
+      int freshCount = 0;
+      for (int i = 0; i < count; i++) {
+        if (!visited[around[i]]) {
+          fresh[freshCount++] = around[i];
+        }
+      }
+      if (freshCount == 0) {
+        top -= 1;
+      }
+      else {
+        int next = fresh[maze.random.nextInt(freshCount)];
+        grid.carve(grid.edgeBetween(cell, next));
+        visited[next] = true;
+        stack[top++] = next;
+      }
+    }
+  }
+}
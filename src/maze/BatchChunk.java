@@ -0,0 +1,56 @@
+package maze;
+
+import java.util.concurrent.Callable;
+
+// a run of consecutive mazes of a batch, generated and solved on one thread
+// every chunk has its own mazes, lines and totals, so chunks running at the
+// same time share nothing but the seeds they read, and the batch adds the
+// totals up once each chunk is done
+class BatchChunk implements Callable<BatchChunk> {
+  MazeBatch batch;
+  long[] seeds;
+  // the mazes of this chunk are first up to but not including last
+  int first;
+  int last;
+
+  // the statistics line of every maze of this chunk, in order
+  StringBuilder lines;
+  long pathTotal;
+  long seenTotal;
+  long generateNanos;
+  long solveNanos;
+
+  // the constructor
+  BatchChunk(MazeBatch batch, long[] seeds, int first, int last) {
+    this.batch = batch;
+    this.seeds = seeds;
+    this.first = first;
+    this.last = last;
+    this.lines = new StringBuilder();
+  }
+
+  // generates and solves the mazes of this chunk, each from its own seed
+  // the wrong moves are the cells searched that aren't on the path
+  public BatchChunk call() {
+    for (int i = this.first; i < this.last; i++) {
+      long start = System.nanoTime();
+      Maze maze = new Maze(this.batch.width, this.batch.height, this.seeds[i],
+          this.batch.generator, this.batch.braid);
+      long generated = System.nanoTime();
+      this.batch.solve(maze);
+      long solved = System.nanoTime();
+
+      int path = maze.solver.pathCount;
+      int seen = maze.solver.seenCount;
+      this.pathTotal += path;
+      this.seenTotal += seen;
+      this.generateNanos += generated - start;
+      this.solveNanos += solved - generated;
+      this.lines.append(i).append('\t').append(this.seeds[i]).append('\t').append(path)
+          .append('\t').append(seen).append('\t').append(seen - path)
+          .append('\t').append((generated - start) / 1000)
+          .append('\t').append((solved - generated) / 1000).append('\n');
+    }
+    return this;
+  }
+}
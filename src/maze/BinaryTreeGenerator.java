@@ -0,0 +1,25 @@
+package maze;
+
+// knocks down the east or the south wall of every cell at random, only east
+// on the last row and only south in the last column
+// every path runs down and right to the bottom right corner, which gives
+// long open corridors along the last row and column
+class BinaryTreeGenerator implements MazeGenerator {
+  public void generate(Maze maze) {
+    MazeGrid grid = maze.grid;
+    int cell = 0;
+    for (int y = 0; y < grid.height; y++) {
+      for (int x = 0; x < grid.width; x++) {
+        boolean east = x < grid.width - 1;
+        boolean south = y < grid.height - 1;
+        if (east && (!south || maze.random.nextBoolean())) {
+          grid.open[cell] = MazeGrid.EAST;
+        }
+        else if (south) {
+          grid.open[cell] = MazeGrid.SOUTH;
+        }
+        cell += 1;
+      }
+    }
+  }
+}
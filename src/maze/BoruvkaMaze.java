@@ -0,0 +1,280 @@
+package maze;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// generates huge mazes on many threads with boruvka's algo: every round each
+// group of connected cells picks its lightest wall to another group, and all
+// of those walls are knocked down at once
+// the weight of each wall is hashed from the seed and its edge id instead of
+// drawn in order from one random stream, so any thread can work it out, and
+// ties are broken by the edge id, so every key is different and the maze is
+// the one tree kruskal's algo would pick for the same weights, whatever the
+// number of threads
+class BoruvkaMaze {
+  // how many cells are in one block, the cells one task works on, and about
+  // how many cells of rows one task scans
+  static final int GRAIN = 4096;
+  static final long NONE = Long.MAX_VALUE;
+
+  // the steps of a round, each done by every task over its own blocks, or
+  // rows for SCAN
+  static final int INIT = 0;
+  static final int SCAN = 1;
+  static final int HOOK = 2;
+  static final int JUMP = 3;
+  static final int RELABEL = 4;
+  static final int BUILD = 5;
+
+  int width;
+  int height;
+  long seed;
+  int threads;
+  MazeGrid grid;
+
+  // the group each cell is in, named by one of its cells, the root
+  int[] group;
+  // the group each root joins this round, then the root of the joined group
+  int[] next;
+  // the key of the lightest wall from each root's group to another group
+  AtomicLongArray lightest;
+  // the roots in each block are kept at the start of the block's cells, so
+  // hooking and jumping only look at the roots, fewer every round
+  int[] roots;
+  int[] rootCount;
+  // one byte per edge slot, 1 if the edge is in the tree
+  byte[] inTree;
+  // how many groups joined another in this round, and how many roots moved
+  // along their chain in the last jump
+  AtomicInteger hooked;
+  AtomicInteger changed;
+  int rounds;
+
+  // the constructor, builds the maze straight away
+  BoruvkaMaze(int width, int height, long seed, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("A maze needs at least one thread");
+    }
+    this.width = width;
+    this.height = height;
+    this.seed = seed;
+    this.threads = threads;
+    this.grid = new MazeGrid(width, height);
+    this.generate();
+  }
+
+  // mixes the bits of the given value, the finalizer of splitmix64
+  static long mix(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  // the random weight of the given edge, 31 bits hashed from the seed
+  int weight(int edge) {
+    return (int) (mix(this.seed + edge * 0x9e3779b97f4a7c15L) >>> 33);
+  }
+
+  // the weight and the edge id packed into one key, the same way as
+  // Maze.edgeKey, so no two edges have the same key
+  long edgeKey(int edge) {
+    return (long) this.weight(edge) << 32 | edge;
+  }
+
+  // joins every cell into one tree and knocks its walls down on the grid
+  void generate() {
+    int cells = this.grid.cells();
+    int blocks = (cells + GRAIN - 1) / GRAIN;
+    this.group = new int[cells];
+    this.next = new int[cells];
+    this.lightest = new AtomicLongArray(cells);
+    this.roots = new int[cells];
+    this.rootCount = new int[blocks];
+    this.inTree = new byte[this.grid.edgeSlots()];
+    this.hooked = new AtomicInteger();
+    this.changed = new AtomicInteger();
+    this.rounds = 0;
+
+    ForkJoinPool pool = new ForkJoinPool(this.threads);
+    try {
+      pool.invoke(new BoruvkaStep(this, INIT, 0, blocks));
+      while (true) {
+        this.hooked.set(0);
+        pool.invoke(new BoruvkaStep(this, HOOK, 0, blocks));
+        if (this.hooked.get() == 0) {
+          break;
+        }
+        do {
+          this.changed.set(0);
+          pool.invoke(new BoruvkaStep(this, JUMP, 0, blocks));
+        } while (this.changed.get() > 0);
+        pool.invoke(new BoruvkaStep(this, RELABEL, 0, blocks));
+        pool.invoke(new BoruvkaStep(this, SCAN, 0, this.height));
+        this.rounds += 1;
+      }
+      pool.invoke(new BoruvkaStep(this, BUILD, 0, blocks));
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  // does the given step over the blocks, or the rows for SCAN, from lo up to
+  // but not including hi
+  void step(int step, int lo, int hi) {
+    if (step == SCAN) {
+      this.scan(lo, hi);
+      return;
+    }
+    for (int block = lo; block < hi; block++) {
+      int first = block * GRAIN;
+      int last = Math.min(this.grid.cells(), first + GRAIN);
+      if (step == INIT) {
+        this.init(block, first, last);
+      }
+      else if (step == HOOK) {
+        this.hook(block);
+      }
+      else if (step == JUMP) {
+        this.jump(block);
+      }
+      else if (step == RELABEL) {
+        this.relabel(block, first, last);
+      }
+      else {
+        for (int cell = first; cell < last; cell++) {
+          int east = this.inTree[this.grid.eastEdge(cell)];
+          int south = this.inTree[this.grid.southEdge(cell)];
+          this.grid.open[cell] = (byte) (east | south << 1);
+        }
+      }
+    }
+  }
+
+  // makes every cell in the block a group of its own, and since every wall
+  // is then between two groups, finds each cell's lightest wall on its own,
+  // with no scan and no compare and set
+  void init(int block, int first, int last) {
+    int x = this.grid.x(first);
+    int y = this.grid.y(first);
+    for (int cell = first; cell < last; cell++) {
+      this.group[cell] = cell;
+      this.roots[cell] = cell;
+      long key = NONE;
+      if (x < this.width - 1) {
+        key = Math.min(key, this.edgeKey(this.grid.eastEdge(cell)));
+      }
+      if (y < this.height - 1) {
+        key = Math.min(key, this.edgeKey(this.grid.southEdge(cell)));
+      }
+      if (x > 0) {
+        key = Math.min(key, this.edgeKey(this.grid.eastEdge(cell - 1)));
+      }
+      if (y > 0) {
+        key = Math.min(key, this.edgeKey(this.grid.southEdge(cell - this.width)));
+      }
+      this.lightest.setPlain(cell, key);
+      x += 1;
+      if (x == this.width) {
+        x = 0;
+        y += 1;
+      }
+    }
+    this.rootCount[block] = last - first;
+  }
+
+  // offers every wall between two groups in the given rows to both groups
+  void scan(int firstRow, int lastRow) {
+    for (int y = firstRow; y < lastRow; y++) {
+      int cell = y * this.width;
+      for (int x = 0; x < this.width; x++) {
+        int here = this.group[cell];
+        if (x < this.width - 1 && here != this.group[cell + 1]) {
+          long key = this.edgeKey(this.grid.eastEdge(cell));
+          this.offer(here, key);
+          this.offer(this.group[cell + 1], key);
+        }
+        if (y < this.height - 1 && here != this.group[cell + this.width]) {
+          long key = this.edgeKey(this.grid.southEdge(cell));
+          this.offer(here, key);
+          this.offer(this.group[cell + this.width], key);
+        }
+        cell += 1;
+      }
+    }
+  }
+
+  // keeps the given key as the root's lightest wall if it is lighter
+  void offer(int root, long key) {
+    long current = this.lightest.get(root);
+    while (key < current && !this.lightest.compareAndSet(root, current, key)) {
+      current = this.lightest.get(root);
+    }
+  }
+
+  // joins each root in the block to the group across its lightest wall
+  // when two groups pick the same wall only the one with the larger root
+  // joins the other, so the wall goes in the tree once and no cycle forms
+  void hook(int block) {
+    int count = 0;
+    int first = block * GRAIN;
+    for (int i = first; i < first + this.rootCount[block]; i++) {
+      int root = this.roots[i];
+      this.next[root] = root;
+      long key = this.lightest.get(root);
+      if (key == NONE) {
+        continue;
+      }
+      int edge = (int) key;
+      int from = this.group[this.grid.edgeFrom(edge)];
+      int other = from == root ? this.group[this.grid.edgeTo(edge)] : from;
+      if (this.lightest.get(other) != key || root > other) {
+        this.next[root] = other;
+        this.inTree[edge] = 1;
+        count += 1;
+      }
+    }
+    if (count > 0) {
+      this.hooked.addAndGet(count);
+    }
+  }
+
+  // moves each root in the block one step closer to the last root of its
+  // chain by pointer jumping, every value read along the way is still on
+  // the chain so other tasks jumping at the same time can't break it
+  void jump(int block) {
+    int count = 0;
+    int first = block * GRAIN;
+    for (int i = first; i < first + this.rootCount[block]; i++) {
+      int root = this.roots[i];
+      int step = this.next[root];
+      int after = this.next[step];
+      if (step != after) {
+        this.next[root] = after;
+        count += 1;
+      }
+    }
+    if (count > 0) {
+      this.changed.addAndGet(count);
+    }
+  }
+
+  // moves every cell in the block to the group its group joined, and keeps
+  // only the roots that are still roots, ready for the next scan
+  void relabel(int block, int first, int last) {
+    for (int cell = first; cell < last; cell++) {
+      this.group[cell] = this.next[this.group[cell]];
+    }
+    int count = 0;
+    for (int i = first; i < first + this.rootCount[block]; i++) {
+      int root = this.roots[i];
+      if (this.next[root] == root) {
+        this.roots[first + count] = root;
+        this.lightest.setPlain(root, NONE);
+        count += 1;
+      }
+    }
+    this.rootCount[block] = count;
+  }
+}
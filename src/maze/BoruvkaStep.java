@@ -0,0 +1,36 @@
+package maze;
+
+import java.util.concurrent.RecursiveAction;
+
+// one step of a boruvka round over a range of blocks or rows, split in half
+// until it is one block, or about a block's worth of rows
+class BoruvkaStep extends RecursiveAction {
+  private static final long serialVersionUID = 1L;
+
+  BoruvkaMaze maze;
+  int step;
+  int lo;
+  int hi;
+
+  // the constructor
+  BoruvkaStep(BoruvkaMaze maze, int step, int lo, int hi) {
+    this.maze = maze;
+    this.step = step;
+    this.lo = lo;
+    this.hi = hi;
+  }
+
+  // splits the range in half until it is small enough for one thread
+  protected void compute() {
+    int grain = this.step == BoruvkaMaze.SCAN
+        ? Math.max(1, BoruvkaMaze.GRAIN / this.maze.width) : 1;
+    if (this.hi - this.lo <= grain) {
+      this.maze.step(this.step, this.lo, this.hi);
+    }
+    else {
+      int mid = (this.lo + this.hi) >>> 1;
+      invokeAll(new BoruvkaStep(this.maze, this.step, this.lo, mid),
+          new BoruvkaStep(this.maze, this.step, mid, this.hi));
+    }
+  }
+}
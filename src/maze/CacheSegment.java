@@ -0,0 +1,29 @@
+package maze;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// one segment of a PathCache, only used while holding its lock
+class CacheSegment<V> extends LinkedHashMap<Long, V> {
+  private static final long serialVersionUID = 1L;
+
+  int capacity;
+  long hits;
+  long misses;
+  long evictions;
+
+  // the constructor, for a segment of at most the given number of entries
+  CacheSegment(int capacity) {
+    super(16, 0.75f, true);
+    this.capacity = capacity;
+  }
+
+  // drops the entry used longest ago once there are too many
+  protected boolean removeEldestEntry(Map.Entry<Long, V> eldest) {
+    if (this.size() > this.capacity) {
+      this.evictions += 1;
+      return true;
+    }
+    return false;
+  }
+}
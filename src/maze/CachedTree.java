@@ -0,0 +1,54 @@
+package maze;
+
+// a maze's tree index with the caches of what queries found on it, never
+// changed once made, so a query holding one answers on the walls of that
+// tree and only ever reads and writes that tree's caches
+// MazeQueries swaps in a new one, with empty caches, when the walls change
+class CachedTree {
+  MazeTree tree;
+  // the distance between pairs of cells
+  PathCache<Integer> distances;
+  // the path between pairs of cells, going from the lower cell to the higher
+  PathCache<int[]> paths;
+
+  // the constructor, with room for the given number of distances and of
+  // paths
+  CachedTree(MazeTree tree, int capacity) {
+    this.tree = tree;
+    this.distances = new PathCache<Integer>(capacity);
+    this.paths = new PathCache<int[]>(capacity);
+  }
+
+  // the number of steps from the source to the target, from the cache if it
+  // is there, safe to call from any thread
+  // two threads missing the same pair at once both find it, which is cheaper
+  // than making either wait
+  int distance(int source, int target) {
+    Integer distance = this.distances.get(source, target);
+    if (distance == null) {
+      distance = this.tree.distance(source, target);
+      this.distances.put(source, target, distance);
+    }
+    return distance;
+  }
+
+  // the cells of the path from the source to the target, from the cache if
+  // it is there, safe to call from any thread
+  // the cached path goes from the lower cell to the higher, so the other way
+  // round gets a reversed copy
+  int[] path(int source, int target) {
+    int[] path = this.paths.get(source, target);
+    if (path == null) {
+      path = this.tree.path(Math.min(source, target), Math.max(source, target));
+      this.paths.put(source, target, path);
+    }
+    if (source <= target) {
+      return path;
+    }
+    int[] reversed = new int[path.length];
+    for (int i = 0; i < path.length; i++) {
+      reversed[i] = path[path.length - 1 - i];
+    }
+    return reversed;
+  }
+}
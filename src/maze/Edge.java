@@ -0,0 +1,41 @@
+package maze;
+
+import javalib.worldimages.*;
+
+// represents an edge class
+class Edge {
+  Vertex from;
+  Vertex to;
+  int weight;
+
+  // the constructor
+  Edge(Vertex from, Vertex to, int weight) {
+    this.from = from;
+    this.to = to;
+    this.weight = weight;
+  }
+
+  // overrides equal method to determine if this edge is equal to the given edge
+  public boolean equals(Object o) {
+    if (!(o instanceof Edge)) {
+      return false;
+    }
+    Edge other = (Edge) o;
+    return (this.from.equals(other.from) && this.to.equals(other.to) && this.weight == other.weight)
+        || (this.from.equals(other.to) && this.to.equals(other.from)
+            && this.weight == other.weight);
+  }
+
+  // overrides hashcode method, the same for both directions of the edge
+  public int hashCode() {
+    int from = this.from.hashCode();
+    int to = this.to.hashCode();
+    return (Math.min(from, to) * 31 + Math.max(from, to)) * 31 + this.weight;
+  }
+
+  // draws an edge
+  WorldImage drawEdge() {
+    return MazeCanvas.FLOOR_CELL;
+  }
+
+}
@@ -0,0 +1,8 @@
+package maze;
+
+// eller's algo, one row at a time, see EllerMaze
+class EllerGenerator implements MazeGenerator {
+  public void generate(Maze maze) {
+    new EllerMaze(maze.width, maze.height, maze.random).generate(new GridRows(maze.grid));
+  }
+}
@@ -0,0 +1,142 @@
+package maze;
+
+import java.util.SplittableRandom;
+
+// generates a maze one row at a time with eller's algo, handing each row to
+// a RowSink as soon as it is done, so a maze with millions of rows can be
+// written out while only ever holding a few arrays as long as one row
+// every row knows which cells of the row are already connected through the
+// rows above, joins some neighbors at random, then carries each connected
+// group down into the next row through at least one open south wall, and
+// the last row joins every group that is still apart
+class EllerMaze {
+  int width;
+  int height;
+  SplittableRandom random;
+
+  // the group of each cell of the current row, named by a column
+  int[] group;
+  // a union find over the columns of the current row, and the first column
+  // of each group, which starts as the group's root
+  int[] parent;
+  int[] first;
+  // how many cells of each group have not been looked at yet, and whether
+  // the group has an open south wall yet
+  int[] left;
+  boolean[] down;
+  // whether each column name is used by a group carried into the next row
+  boolean[] used;
+  // the walls of the current row, MazeGrid.EAST and MazeGrid.SOUTH bits
+  byte[] row;
+
+  // the constructor, the same size and seed always make the same maze
+  EllerMaze(int width, int height, long seed) {
+    this(width, height, new SplittableRandom(seed));
+  }
+
+  // the constructor, drawing every random choice from the given random, so
+  // a Maze can share its own
+  EllerMaze(int width, int height, SplittableRandom random) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("A maze needs at least one cell");
+    }
+    this.width = width;
+    this.height = height;
+    this.random = random;
+    this.group = new int[width];
+    this.parent = new int[width];
+    this.first = new int[width];
+    this.left = new int[width];
+    this.down = new boolean[width];
+    this.used = new boolean[width];
+    this.row = new byte[width];
+  }
+
+  // generates every row, top to bottom, handing each to the sink
+  // the sink gets the same array every time, so it must copy what it keeps
+  void generate(RowSink sink) {
+    for (int x = 0; x < this.width; x++) {
+      this.group[x] = x;
+    }
+    for (int y = 0; y < this.height; y++) {
+      boolean last = y == this.height - 1;
+      this.joinRow(last);
+      if (!last) {
+        this.carryDown();
+      }
+      sink.row(y, this.row);
+    }
+    sink.end();
+  }
+
+  // starts the union find of the row from the groups carried into it, then
+  // knocks down east walls between cells of different groups, at random,
+  // or always on the last row
+  void joinRow(boolean last) {
+    for (int x = 0; x < this.width; x++) {
+      this.row[x] = 0;
+      this.first[x] = -1;
+    }
+    for (int x = 0; x < this.width; x++) {
+      int name = this.group[x];
+      if (this.first[name] < 0) {
+        this.first[name] = x;
+      }
+      this.parent[x] = this.first[name];
+    }
+    for (int x = 0; x < this.width - 1; x++) {
+      int here = this.find(x);
+      int east = this.find(x + 1);
+      if (here != east && (last || this.random.nextBoolean())) {
+        this.row[x] |= MazeGrid.EAST;
+        this.parent[Math.max(here, east)] = Math.min(here, east);
+      }
+    }
+  }
+
+  // finds the root column of the group of the given column, joining always
+  // hangs the larger root under the smaller
+  int find(int x) {
+    while (this.parent[x] != x) {
+      this.parent[x] = this.parent[this.parent[x]];
+      x = this.parent[x];
+    }
+    return x;
+  }
+
+  // knocks down south walls at random, making sure every group keeps at
+  // least one, then names the groups of the next row
+  // a cell with an open south wall carries its group down, every other cell
+  // of the next row starts a group of its own under a name nobody uses
+  void carryDown() {
+    for (int x = 0; x < this.width; x++) {
+      this.group[x] = this.find(x);
+      this.left[x] = 0;
+      this.down[x] = false;
+      this.used[x] = false;
+    }
+    for (int x = 0; x < this.width; x++) {
+      this.left[this.group[x]] += 1;
+    }
+    for (int x = 0; x < this.width; x++) {
+      int name = this.group[x];
+      this.left[name] -= 1;
+      // the last cell of a group with no way down yet must open
+      if (this.random.nextBoolean() || (this.left[name] == 0 && !this.down[name])) {
+        this.row[x] |= MazeGrid.SOUTH;
+        this.down[name] = true;
+        this.used[name] = true;
+      }
+    }
+    int free = 0;
+    for (int x = 0; x < this.width; x++) {
+      if ((this.row[x] & MazeGrid.SOUTH) == 0) {
+        while (this.used[free]) {
+          free += 1;
+        }
+        this.group[x] = free;
+        this.used[free] = true;
+      }
+    }
+  }
+}
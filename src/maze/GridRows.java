@@ -0,0 +1,20 @@
+package maze;
+
+// copies every row into a grid, so a streamed maze can be solved and drawn
+// like any other
+class GridRows implements RowSink {
+  MazeGrid grid;
+
+  // the constructor
+  GridRows(MazeGrid grid) {
+    this.grid = grid;
+  }
+
+  public void row(int y, byte[] open) {
+    System.arraycopy(open, 0, this.grid.open, this.grid.id(0, y), this.grid.width);
+  }
+
+  public void end() {
+    // every row is already in the grid
+  }
+}
@@ -0,0 +1,209 @@
+package maze;
+
+import java.util.Arrays;
+
+// keeps the shortest distance from one source to every cell of a grid, and
+// the cell each cell is best reached from, up to date as walls are knocked
+// down and put back up, without searching the whole grid again
+// knocking down a wall spreads breadth first from the cell it brings closer,
+// only through cells that get closer too
+// putting up a wall on the way to a cell takes away the cells below it that
+// have no other way in as short, then finds their new distances from the
+// cells around them that kept theirs, closest first
+// so an edit costs time for the cells whose distances change, not for the
+// whole grid, and it works whether the maze is perfect or has loops
+class IncrementalSolver {
+  // the distance of a cell that can't be reached from the source
+  static final int UNREACHED = Integer.MAX_VALUE;
+
+  MazeGrid grid;
+  int source;
+  // the steps from the source to each cell, or UNREACHED
+  int[] distance;
+  // the cell each cell is best reached from, -1 for the source and for the
+  // cells that can't be reached
+  int[] parent;
+
+  // the cells whose distance the last edit had to look at, in order
+  int[] changed;
+  int changedCount;
+
+  // the cells waiting, for spreading and for taking away cells
+  int[] queue;
+  // which edit last took each cell away, so nothing needs clearing
+  int[] lost;
+  int edits;
+  // the cells taken away, packed as distance << 32 | cell
+  LongHeap open;
+  int[] neighbors;
+
+  // the constructor, searches the whole grid breadth first from the source
+  // once
+  IncrementalSolver(MazeGrid grid, int source) {
+    this.grid = grid;
+    this.source = source;
+    this.distance = new int[grid.cells()];
+    this.parent = new int[grid.cells()];
+    this.changed = new int[grid.cells()];
+    this.queue = new int[grid.cells()];
+    this.lost = new int[grid.cells()];
+    this.open = new LongHeap(64);
+    this.neighbors = new int[4];
+
+    Arrays.fill(this.distance, UNREACHED);
+    Arrays.fill(this.parent, -1);
+    this.distance[source] = 0;
+    this.changedCount = 0;
+    this.spread(source);
+  }
+
+  // lowers the distances of the cells beyond the given cell, whose distance
+  // has just been lowered, breadth first, and notes every cell it lowers
+  void spread(int start) {
+    int head = 0;
+    int tail = 0;
+    this.queue[tail++] = start;
+    this.changed[this.changedCount++] = start;
+    while (head < tail) {
+      int cell = this.queue[head++];
+      int closer = this.distance[cell] + 1;
+      int count = this.grid.neighbors(cell, this.neighbors);
+      for (int i = 0; i < count; i++) {
+        int next = this.neighbors[i];
+        if (closer < this.distance[next]) {
+          this.distance[next] = closer;
+          this.parent[next] = cell;
+          this.queue[tail++] = next;
+          this.changed[this.changedCount++] = next;
+        }
+      }
+    }
+  }
+
+  // brings the distances up to date after the given wall was knocked down
+  void opened(int edge) {
+    int from = this.grid.edgeFrom(edge);
+    int to = this.grid.edgeTo(edge);
+    this.changedCount = 0;
+    if (this.distance[to] < this.distance[from]) {
+      int swap = from;
+      from = to;
+      to = swap;
+    }
+    if (this.distance[from] != UNREACHED && this.distance[from] + 1 < this.distance[to]) {
+      this.distance[to] = this.distance[from] + 1;
+      this.parent[to] = from;
+      this.spread(to);
+    }
+  }
+
+  // brings the distances up to date after the given wall was put back up
+  // only a wall one cell was best reached through changes anything
+  void closed(int edge) {
+    int from = this.grid.edgeFrom(edge);
+    int to = this.grid.edgeTo(edge);
+    this.changedCount = 0;
+    if (this.parent[from] == to) {
+      this.reroute(from);
+    }
+    else if (this.parent[to] == from) {
+      this.reroute(to);
+    }
+  }
+
+  // takes away the given cell, which lost the way it was best reached, and
+  // the cells below it with no other way in as short, then gives them their
+  // new distances
+  void reroute(int top) {
+    this.edits += 1;
+    // breadth first down from the top, so every cell one step closer to the
+    // source than a cell is settled before that cell is looked at
+    int head = 0;
+    int tail = 0;
+    this.queue[tail++] = top;
+    while (head < tail) {
+      int cell = this.queue[head++];
+      int before = this.findParent(cell, this.distance[cell] - 1);
+      if (before != -1) {
+        this.parent[cell] = before;
+      }
+      else {
+        this.lost[cell] = this.edits;
+        this.changed[this.changedCount++] = cell;
+        int count = this.grid.neighbors(cell, this.neighbors);
+        for (int i = 0; i < count; i++) {
+          if (this.parent[this.neighbors[i]] == cell) {
+            this.queue[tail++] = this.neighbors[i];
+          }
+        }
+      }
+    }
+
+    // every cell taken away starts from the best cell around it that kept
+    // its distance, then the closest cells go first, as in dijkstra's algo
+    this.open.clear();
+    for (int i = 0; i < this.changedCount; i++) {
+      int cell = this.changed[i];
+      this.distance[cell] = UNREACHED;
+      this.parent[cell] = -1;
+    }
+    for (int i = 0; i < this.changedCount; i++) {
+      int cell = this.changed[i];
+      int count = this.grid.neighbors(cell, this.neighbors);
+      for (int j = 0; j < count; j++) {
+        int next = this.neighbors[j];
+        if (this.lost[next] != this.edits && this.distance[next] != UNREACHED
+            && this.distance[next] + 1 < this.distance[cell]) {
+          this.distance[cell] = this.distance[next] + 1;
+          this.parent[cell] = next;
+        }
+      }
+      if (this.distance[cell] != UNREACHED) {
+        this.open.push(((long) this.distance[cell] << 32) | cell);
+      }
+    }
+    while (!this.open.isEmpty()) {
+      long key = this.open.pop();
+      int cell = (int) key;
+      // a cell is pushed again when it gets closer, so skip the old entries
+      if ((int) (key >>> 32) == this.distance[cell]) {
+        int closer = this.distance[cell] + 1;
+        int count = this.grid.neighbors(cell, this.neighbors);
+        for (int i = 0; i < count; i++) {
+          int next = this.neighbors[i];
+          if (this.lost[next] == this.edits && closer < this.distance[next]) {
+            this.distance[next] = closer;
+            this.parent[next] = cell;
+            this.open.push(((long) closer << 32) | next);
+          }
+        }
+      }
+    }
+  }
+
+  // a cell next to the given one, through an open wall, at the given
+  // distance and not taken away by this edit, or -1 if there is none
+  int findParent(int cell, int distance) {
+    int count = this.grid.neighbors(cell, this.neighbors);
+    for (int i = 0; i < count; i++) {
+      int next = this.neighbors[i];
+      if (this.distance[next] == distance && this.lost[next] != this.edits) {
+        return next;
+      }
+    }
+    return -1;
+  }
+
+  // writes the cells of a shortest path from the given target back to the
+  // source into out, and returns how many there are, 0 if there is no path
+  int path(int target, int[] out) {
+    if (this.distance[target] == UNREACHED) {
+      return 0;
+    }
+    int count = 0;
+    for (int cell = target; cell != -1; cell = this.parent[cell]) {
+      out[count++] = cell;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,12 @@
+package maze;
+
+// kruskal's algo: knocks down the walls in order of random weights, unless
+// the cells on both sides are already connected
+class KruskalGenerator implements MazeGenerator {
+  // keeps the worklist, the tree and the representatives in the maze
+  public void generate(Maze maze) {
+    maze.worklist = maze.edgeSort(maze.allEdges());
+    maze.minimumSpanningTree(maze.worklist, maze.grid);
+    maze.connectEdges();
+  }
+}
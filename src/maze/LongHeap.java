@@ -0,0 +1,77 @@
+package maze;
+
+import java.util.Arrays;
+
+// a binary min heap of longs in one array, for keys that pack a priority
+// in the high bits and a cell or edge id in the low bits, so taking the
+// smallest key gives the id with the smallest priority, with no boxing
+class LongHeap {
+  long[] keys;
+  int size;
+
+  // the constructor, for at most the given number of keys at once
+  LongHeap(int capacity) {
+    this.keys = new long[Math.max(1, capacity)];
+    this.size = 0;
+  }
+
+  // is this heap empty?
+  boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  // takes every key out of this heap
+  void clear() {
+    this.size = 0;
+  }
+
+  // adds the given key, growing the array if it is full
+  void push(long key) {
+    if (this.size == this.keys.length) {
+      this.keys = Arrays.copyOf(this.keys, this.size * 2);
+    }
+    int hole = this.size;
+    this.size += 1;
+    while (hole > 0) {
+      int parent = (hole - 1) >> 1;
+      if (this.keys[parent] <= key) {
+        break;
+      }
+      this.keys[hole] = this.keys[parent];
+      hole = parent;
+    }
+    this.keys[hole] = key;
+  }
+
+  // the smallest key, without taking it out
+  long peek() {
+    if (this.size == 0) {
+      throw new RuntimeException("The heap is empty");
+    }
+    return this.keys[0];
+  }
+
+  // takes the smallest key out and gives it back
+  long pop() {
+    long top = this.peek();
+    this.size -= 1;
+    long last = this.keys[this.size];
+    int hole = 0;
+    while (true) {
+      int child = hole * 2 + 1;
+      if (child >= this.size) {
+        break;
+      }
+      if (child + 1 < this.size && this.keys[child + 1] < this.keys[child]) {
+        child += 1;
+      }
+      if (this.keys[child] >= last) {
+        break;
+      }
+      this.keys[hole] = this.keys[child];
+      hole = child;
+    }
+    this.keys[hole] = last;
+    return top;
+  }
+}
@@ -0,0 +1,311 @@
+package maze;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// represents a maze generated from a seed by one of the MazeGenerators,
+// kruskal's algo unless told otherwise
+// it knows nothing about drawing, so mazes can be built and solved where
+// there is no display
+class Maze {
+  // the bound on the random weights given to the edges
+  static final int MAX_WEIGHT = 10000;
+  // the names of the generators a maze can be made with
+  static final String KRUSKAL = "kruskal";
+  static final String ELLER = "eller";
+  static final String BACKTRACKER = "backtracker";
+  static final String PRIM = "prim";
+  static final String WILSON = "wilson";
+  static final String ALDOUS_BRODER = "aldous-broder";
+  static final String BINARY_TREE = "binary-tree";
+  static final String SIDEWINDER = "sidewinder";
+  static final String[] GENERATORS = {KRUSKAL, ELLER, BACKTRACKER, PRIM, WILSON, ALDOUS_BRODER,
+      BINARY_TREE, SIDEWINDER};
+
+  int width;
+  int height;
+  long seed;
+  String generator;
+  SplittableRandom random;
+
+  MazeGrid grid;
+  MazeSolver solver;
+
+  // the tree index for path and distance queries, made the first time one
+  // is asked
+  MazeTree index;
+  // the distances from the first cell, kept up to date as walls change,
+  // made the first time they are asked for
+  IncrementalSolver routes;
+
+  // only kruskal's algo fills these in
+  UnionFind representatives;
+  int[] edgesInTree;
+  int[] worklist;
+
+  // the constructor, the same size and seed always make the same maze
+  Maze(int width, int height, long seed) {
+    this(width, height, seed, KRUSKAL);
+  }
+
+  // the constructor, with the name of the generator to use
+  Maze(int width, int height, long seed, String generator) {
+    this(width, height, seed, generator, 0);
+  }
+
+  // the constructor, for a maze with loops: once the generator is done, the
+  // given fraction of the walls still standing between cells is knocked down
+  Maze(int width, int height, long seed, String generator, double braid) {
+    if (braid < 0 || braid > 1) {
+      throw new IllegalArgumentException("The fraction of walls to knock down must be 0 to 1");
+    }
+    this.width = width;
+    this.height = height;
+    this.seed = seed;
+    this.generator = generator;
+    this.random = new SplittableRandom(seed);
+    this.grid = this.makeBoard();
+    generatorFor(generator).generate(this);
+    this.braid(braid);
+    this.solver = new MazeSolver(this.grid);
+  }
+
+  // knocks down the given fraction of the walls still standing between
+  // cells, each one making a loop, so there is more than one way through
+  // kruskal's algo leaves the walls it didn't use in the worklist, in the
+  // order of their random weights, so the first ones are knocked down and
+  // the rest stay in the worklist
+  // the other generators don't keep theirs, so the walls left standing are
+  // found on the grid and shuffled just as far as they need to be
+  // only the mazes searched with a solver that finds the shortest path, see
+  // MazeSolver.findsShortest, are solved the shortest way
+  void braid(double fraction) {
+    if (fraction == 0) {
+      return;
+    }
+    int[] standing = this.worklist;
+    if (standing == null) {
+      standing = new int[this.grid.edgeSlots()];
+      int count = 0;
+      for (int edge = 0; edge < this.grid.edgeSlots(); edge++) {
+        if (this.grid.isEdge(edge) && !this.grid.isOpen(edge)) {
+          standing[count++] = edge;
+        }
+      }
+      standing = Arrays.copyOf(standing, count);
+    }
+    int knock = (int) Math.round(standing.length * fraction);
+    if (this.worklist == null) {
+      for (int i = 0; i < knock; i++) {
+        int pick = i + this.random.nextInt(standing.length - i);
+        int swap = standing[i];
+        standing[i] = standing[pick];
+        standing[pick] = swap;
+      }
+    }
+    for (int i = 0; i < knock; i++) {
+      this.knockDown(standing[i]);
+    }
+    if (this.worklist != null) {
+      this.worklist = Arrays.copyOfRange(this.worklist, knock, this.worklist.length);
+    }
+  }
+
+  // the tree index of this maze, made the first time it is asked for, and
+  // only once even if many threads ask at the same time
+  synchronized MazeTree tree() {
+    if (this.index == null) {
+      this.index = new MazeTree(this.grid);
+    }
+    return this.index;
+  }
+
+  // the distances from the first cell of this maze, made the first time
+  // they are asked for and then kept up to date by knockDown and putUp
+  synchronized IncrementalSolver routes() {
+    if (this.routes == null) {
+      this.routes = new IncrementalSolver(this.grid, 0);
+    }
+    return this.routes;
+  }
+
+  // knocks down the given wall, which must be a wall between two cells, and
+  // brings the routes up to date
+  // the tree index only holds for the walls it was made with, so it is
+  // dropped and made again the next time it is asked for
+  synchronized void knockDown(int edge) {
+    if (!this.grid.isEdge(edge)) {
+      throw new IllegalArgumentException("No wall between two cells: " + edge);
+    }
+    if (!this.grid.isOpen(edge)) {
+      this.grid.carve(edge);
+      this.index = null;
+      if (this.routes != null) {
+        this.routes.opened(edge);
+      }
+    }
+  }
+
+  // puts the given wall back up, which must be a wall between two cells, and
+  // brings the routes up to date
+  synchronized void putUp(int edge) {
+    if (!this.grid.isEdge(edge)) {
+      throw new IllegalArgumentException("No wall between two cells: " + edge);
+    }
+    if (this.grid.isOpen(edge)) {
+      this.grid.close(edge);
+      this.index = null;
+      if (this.routes != null) {
+        this.routes.closed(edge);
+      }
+    }
+  }
+
+  // the cells of the one path from the source to the target
+  int[] path(int source, int target) {
+    return this.tree().path(source, target);
+  }
+
+  // the number of steps on the one path from the source to the target
+  int distance(int source, int target) {
+    return this.tree().distance(source, target);
+  }
+
+  // the generator with the given name
+  static MazeGenerator generatorFor(String name) {
+    if (name.equals(KRUSKAL)) {
+      return new KruskalGenerator();
+    }
+    else if (name.equals(ELLER)) {
+      return new EllerGenerator();
+    }
+    else if (name.equals(BACKTRACKER)) {
+      return new BacktrackerGenerator();
+    }
+    else if (name.equals(PRIM)) {
+      return new PrimGenerator();
+    }
+    else if (name.equals(WILSON)) {
+      return new WilsonGenerator();
+    }
+    else if (name.equals(ALDOUS_BRODER)) {
+      return new AldousBroderGenerator();
+    }
+    else if (name.equals(BINARY_TREE)) {
+      return new BinaryTreeGenerator();
+    }
+    else if (name.equals(SIDEWINDER)) {
+      return new SidewinderGenerator();
+    }
+    else {
+      throw new IllegalArgumentException("Unknown generator: " + name);
+    }
+  }
+
+  // makes the given number of seeds from one seed, each from its own split
+  // stream, so independent mazes can be generated side by side and replayed
+  static long[] subSeeds(long seed, int count) {
+    SplittableRandom root = new SplittableRandom(seed);
+    long[] seeds = new long[count];
+    for (int i = 0; i < count; i++) {
+      seeds[i] = root.split().nextLong();
+    }
+    return seeds;
+  }
+
+  // creates the grid of cells for the board, with every wall still standing
+  MazeGrid makeBoard() {
+    return new MazeGrid(this.width, this.height);
+  }
+
+  // sorts the packed edges by their random weights with a counting sort,
+  // keeping edges of equal weight in the order they were given, and gives
+  // back just the edge ids
+  int[] edgeSort(long[] e) {
+    int[] starts = new int[MAX_WEIGHT + 1];
+    for (long key : e) {
+      starts[(int) (key >>> 32) + 1] += 1;
+    }
+    for (int weight = 1; weight < starts.length; weight++) {
+      starts[weight] += starts[weight - 1];
+    }
+    int[] sorted = new int[e.length];
+    for (long key : e) {
+      int weight = (int) (key >>> 32);
+      sorted[starts[weight]] = (int) key;
+      starts[weight] += 1;
+    }
+    return sorted;
+  }
+
+  // connects the cells and makes each cell a representative, part of
+  // kruskal's algo
+  // walks the sorted worklist once with a cursor, moving the edges it rejects
+  // to the front, so afterwards the worklist holds only the edges that are not
+  // in the tree, still in weight order
+  int[] minimumSpanningTree(int[] worklist, MazeGrid board) {
+    UnionFind rep = new UnionFind(board.cells());
+    int[] tree = new int[board.cells() - 1];
+    int size = 0;
+    int rejected = 0;
+    int cursor = 0;
+
+    while (size < tree.length && cursor < worklist.length) {
+      int curEdge = worklist[cursor];
+      cursor += 1;
+
+      if (rep.union(board.edgeFrom(curEdge), board.edgeTo(curEdge))) {
+        tree[size] = curEdge;
+        size += 1;
+      }
+      else {
+        worklist[rejected] = curEdge;
+        rejected += 1;
+      }
+    }
+    System.arraycopy(worklist, cursor, worklist, rejected, worklist.length - cursor);
+    this.worklist = Arrays.copyOf(worklist, rejected + worklist.length - cursor);
+    this.representatives = rep;
+    this.edgesInTree = tree;
+    return this.edgesInTree;
+  }
+
+  // knocks down the walls of the edges in the edgesInTree on the grid
+  void connectEdges() {
+    for (int edge : this.edgesInTree) {
+      this.grid.carve(edge);
+    }
+  }
+
+  // packs the given weight and edge id into one sortable key
+  long edgeKey(int weight, int edge) {
+    return ((long) weight << 32) | edge;
+  }
+
+  // creates the edges that are possible to generate, creating the min
+  // spanning tree, each packed with a random weight by edgeKey
+  long[] allEdges() {
+
+    long[] answer = new long[(this.width - 1) * this.height + this.width * (this.height - 1)];
+    int count = 0;
+
+    int cell = 0;
+
+    for (int y = 0; y < this.height; y++) {
+      for (int x = 0; x < this.width; x++) {
+
+        if (x < this.width - 1) {
+          answer[count] = this.edgeKey(this.random.nextInt(MAX_WEIGHT), this.grid.eastEdge(cell));
+          count += 1;
+        }
+
+        if (y < this.height - 1) {
+          answer[count] = this.edgeKey(this.random.nextInt(MAX_WEIGHT), this.grid.southEdge(cell));
+          count += 1;
+        }
+        cell += 1;
+      }
+    }
+    return answer;
+  }
+}
@@ -0,0 +1,151 @@
+package maze;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// generates and solves many mazes without a display, writing a line of
+// statistics for every maze as it is solved and a summary at the end
+// java -jar maze-game.jar batch width height count seed [b|d|a|t|f] [threads] [generator]
+//   [braid]
+class MazeBatch {
+  // how many mazes one task makes before handing its lines back
+  static final int CHUNK = 64;
+
+  int width;
+  int height;
+  int count;
+  long seed;
+  // the key of the search, one of MazeSolver.KEYS, the same keys as the game
+  String solver;
+  int threads;
+  // the name of the generator, one of Maze.GENERATORS
+  String generator;
+  // the fraction of the walls left standing that are knocked down to make
+  // loops, 0 for perfect mazes
+  double braid;
+
+  // totals over the mazes of the last run
+  long pathTotal;
+  long seenTotal;
+  long generateNanos;
+  long solveNanos;
+  // the time the last run took from start to finish
+  long wallNanos;
+
+  // the constructor
+  MazeBatch(int width, int height, int count, long seed, String solver, int threads,
+      String generator, double braid) {
+    if (count < 0) {
+      throw new IllegalArgumentException("A batch can't have a negative number of mazes");
+    }
+    if (!MazeSolver.isKey(solver)) {
+      throw new IllegalArgumentException("Unknown solver: " + solver);
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("A batch needs at least one thread");
+    }
+    Maze.generatorFor(generator);
+    if (braid < 0 || braid > 1) {
+      throw new IllegalArgumentException("The fraction of walls to knock down must be 0 to 1");
+    }
+    this.width = width;
+    this.height = height;
+    this.count = count;
+    this.seed = seed;
+    this.solver = solver;
+    this.threads = threads;
+    this.generator = generator;
+    this.braid = braid;
+  }
+
+  // the constructor for a batch of perfect mazes
+  MazeBatch(int width, int height, int count, long seed, String solver, int threads,
+      String generator) {
+    this(width, height, count, seed, solver, threads, generator, 0);
+  }
+
+  // the constructor for a batch of mazes made by kruskal's algo
+  MazeBatch(int width, int height, int count, long seed, String solver, int threads) {
+    this(width, height, count, seed, solver, threads, Maze.KRUSKAL);
+  }
+
+  // the constructor for a batch on one thread
+  MazeBatch(int width, int height, int count, long seed, String solver) {
+    this(width, height, count, seed, solver, 1);
+  }
+
+  // builds the batch from the command line arguments after "batch", on
+  // every core unless told otherwise
+  static MazeBatch fromArgs(String[] args) {
+    if (args.length < 4) {
+      throw new IllegalArgumentException(
+          "Usage: batch width height count seed [b|d|a|t|f] [threads] [generator] [braid]");
+    }
+    return new MazeBatch(Integer.parseInt(args[0]), Integer.parseInt(args[1]),
+        Integer.parseInt(args[2]), Long.parseLong(args[3]), args.length > 4 ? args[4] : "b",
+        args.length > 5 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors(),
+        args.length > 6 ? args[6] : Maze.KRUSKAL,
+        args.length > 7 ? Double.parseDouble(args[7]) : 0);
+  }
+
+  // generates and solves every maze in the batch, each from its own seed,
+  // in chunks spread over the threads of a fork join pool
+  // the chunks are written to out in order as soon as each is done, so the
+  // output is the same for any number of threads, except for the timings
+  void run(PrintWriter out) {
+    long[] seeds = Maze.subSeeds(this.seed, this.count);
+    this.pathTotal = 0;
+    this.seenTotal = 0;
+    this.generateNanos = 0;
+    this.solveNanos = 0;
+    out.println("maze\tseed\tpath\tseen\twrong\tgenerateMicros\tsolveMicros");
+
+    long start = System.nanoTime();
+    ForkJoinPool pool = new ForkJoinPool(this.threads);
+    try {
+      ArrayList<ForkJoinTask<BatchChunk>> chunks = new ArrayList<ForkJoinTask<BatchChunk>>();
+      for (int first = 0; first < this.count; first += CHUNK) {
+        chunks.add(pool.submit(
+            new BatchChunk(this, seeds, first, Math.min(this.count, first + CHUNK))));
+      }
+      for (ForkJoinTask<BatchChunk> task : chunks) {
+        BatchChunk chunk = task.join();
+        out.print(chunk.lines);
+        this.pathTotal += chunk.pathTotal;
+        this.seenTotal += chunk.seenTotal;
+        this.generateNanos += chunk.generateNanos;
+        this.solveNanos += chunk.solveNanos;
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+    this.wallNanos = System.nanoTime() - start;
+    out.println(this.summary());
+    out.flush();
+  }
+
+  // solves the maze from the top left to the bottom right with this batch's
+  // solver, safe to call from any thread since it only reads the batch
+  boolean solve(Maze maze) {
+    return maze.solver.solve(this.solver, 0, maze.grid.cells() - 1);
+  }
+
+  // the averages and throughput over the last run, the generate and solve
+  // times are per maze on one thread and the mazes per second are over the
+  // whole run on every thread
+  String summary() {
+    long nanos = Math.max(1, this.wallNanos);
+    int mazes = Math.max(1, this.count);
+    return "# " + this.count + " mazes " + this.width + "x" + this.height + " "
+        + this.generator + (this.braid > 0 ? " braid " + this.braid : "") + " solver "
+        + this.solver + " threads " + this.threads
+        + ": mean path " + this.pathTotal / mazes + ", mean seen " + this.seenTotal / mazes
+        + ", mean wrong " + (this.seenTotal - this.pathTotal) / mazes
+        + ", generate " + this.generateNanos / 1000 / mazes + " us, solve "
+        + this.solveNanos / 1000 / mazes + " us, "
+        + (long) (this.count * 1e9 / nanos) + " mazes/s";
+  }
+}
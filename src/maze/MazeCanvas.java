@@ -0,0 +1,433 @@
+package maze;
+
+import java.awt.Color;
+import javalib.worldimages.*;
+
+// the picture of a maze as seen through a window onto it, kept from frame to
+// frame in one raster image no bigger than the window
+// the window pans over the maze and zooms in and out, and only the cells
+// inside it are ever drawn, so a frame costs time for the window, not for the
+// whole maze, and after it is drawn only the cells the game colors in are
+// painted
+// zoomed in, every cell is a square with a 1 pixel gap to its east and south,
+// which is gray where the wall is knocked down and left clear where it
+// stands, so the scene shows through
+// zoomed out past a pixel a cell, every pixel is a block of cells, shaded by
+// how much of it is floor, read from a pyramid of blocks 1, 2, 4, 8... cells
+// a side, each level made from the one below the first time it is needed
+class MazeCanvas {
+  // the pixels from one cell to the next, and the pixels of a cell, zoomed
+  // all the way in
+  static final int CELL = 10;
+  static final int SIDE = 9;
+  // the pixels from one cell to the next at the zooms drawn cell by cell,
+  // after which each level of the pyramid is one more zoom
+  static final int[] PITCHES = {CELL, 5, 2};
+  // the fewest pixels from one cell to the next where a wall can still be
+  // clicked
+  static final int CLICKABLE = 5;
+  // the most of the scene the window takes, the rest is for the title,
+  // instructions and counts
+  static final int VIEW_WIDTH = 1500;
+  static final int VIEW_HEIGHT = 600;
+  // the colors of MazeRaster, which draws the same pictures headless
+  static final Color FLOOR = new Color(MazeRaster.FLOOR, true);
+  static final Color START = new Color(MazeRaster.START, true);
+  static final Color END = new Color(MazeRaster.END, true);
+  static final Color CLEAR = new Color(MazeRaster.CLEAR, true);
+  // the cells searched, and the path from its end back to its start in
+  // quarters: dark blue, green, orange and red
+  static final Color SEEN = new Color(MazeRaster.SEEN, true);
+  static final Color[] PATH = {new Color(MazeRaster.PATH[0], true),
+      new Color(MazeRaster.PATH[1], true), new Color(MazeRaster.PATH[2], true),
+      new Color(MazeRaster.PATH[3], true)};
+  // what a cell can be colored in with: nothing, seen, or one of the
+  // quarters of the path, from PATH_OVERLAY on
+  static final int SEEN_OVERLAY = 1;
+  static final int PATH_OVERLAY = 2;
+  static final Color[] OVERLAYS = {CLEAR, SEEN, PATH[0], PATH[1], PATH[2], PATH[3]};
+  // the floor color as seen through a block of cells with 0 to 255 parts in
+  // 255 of floor, the rest clear
+  static final Color[] SHADES = shades();
+  // the same colors as pictures of one cell, made once and shared by every
+  // vertex and edge that draws itself, so drawing them allocates nothing
+  static final WorldImage NOTHING = new EmptyImage();
+  static final WorldImage FLOOR_CELL = new RectangleImage(SIDE, SIDE, OutlineMode.SOLID, FLOOR);
+  static final WorldImage SEEN_CELL = new RectangleImage(SIDE, SIDE, OutlineMode.SOLID, SEEN);
+  static final WorldImage[] PATH_CELLS = {
+      new RectangleImage(SIDE, SIDE, OutlineMode.SOLID, PATH[0]),
+      new RectangleImage(SIDE, SIDE, OutlineMode.SOLID, PATH[1]),
+      new RectangleImage(SIDE, SIDE, OutlineMode.SOLID, PATH[2]),
+      new RectangleImage(SIDE, SIDE, OutlineMode.SOLID, PATH[3])};
+
+  MazeGrid grid;
+  ComputedPixelImage image;
+  // the pixels of the window, no more than the maze needs zoomed all the
+  // way in
+  int width;
+  int height;
+  // how far the window is zoomed out, an index into PITCHES and after them a
+  // level of the pyramid, and the pixel of the whole maze at this zoom that
+  // is at the top left of the window
+  int zoom;
+  int left;
+  int top;
+  // what every cell is colored in with, 0 for nothing, and the cells colored
+  // in since the maze was last drawn clean, each once
+  byte[] overlay;
+  int[] coloredCells;
+  int coloredCount;
+  // the floor of every block of cells at each level of the pyramid, from 0
+  // for all wall to 255 for all floor, row by row
+  byte[][] pyramid;
+
+  // the constructor, draws the top left of the maze zoomed all the way in
+  MazeCanvas(MazeGrid grid) {
+    this.grid = grid;
+    this.width = Math.min(VIEW_WIDTH, grid.width * CELL);
+    this.height = Math.min(VIEW_HEIGHT, grid.height * CELL);
+    this.image = new ComputedPixelImage(this.width, this.height);
+    this.overlay = new byte[grid.cells()];
+    this.coloredCells = new int[grid.cells()];
+    this.coloredCount = 0;
+    this.zoom = 0;
+    this.left = 0;
+    this.top = 0;
+    this.redraw();
+  }
+
+  // the floor color with every alpha from clear to solid
+  static Color[] shades() {
+    Color[] shades = new Color[256];
+    for (int alpha = 0; alpha < shades.length; alpha++) {
+      shades[alpha] = new Color(FLOOR.getRed(), FLOOR.getGreen(), FLOOR.getBlue(), alpha);
+    }
+    return shades;
+  }
+
+  // is the window zoomed in close enough to draw cell by cell?
+  boolean detailed() {
+    return this.zoom < PITCHES.length;
+  }
+
+  // the level of the pyramid the window shows, when it isn't detailed
+  int level() {
+    return this.zoom - PITCHES.length;
+  }
+
+  // the blocks across and down the given level of the pyramid
+  int columns(int level) {
+    return ((this.grid.width - 1) >> level) + 1;
+  }
+
+  int rows(int level) {
+    return ((this.grid.height - 1) >> level) + 1;
+  }
+
+  // the number of levels of the pyramid, up to the one with a single block
+  int levels() {
+    int level = 0;
+    while (this.columns(level) > 1 || this.rows(level) > 1) {
+      level += 1;
+    }
+    return level + 1;
+  }
+
+  // the pixels across and down the whole maze at the current zoom
+  int mazeWidth() {
+    return this.detailed() ? this.grid.width * PITCHES[this.zoom] : this.columns(this.level());
+  }
+
+  int mazeHeight() {
+    return this.detailed() ? this.grid.height * PITCHES[this.zoom] : this.rows(this.level());
+  }
+
+  // the pixels per cell at the given zoom, less than 1 for the pyramid
+  double scale(int zoom) {
+    return zoom < PITCHES.length ? PITCHES[zoom] : 1.0 / (1 << (zoom - PITCHES.length));
+  }
+
+  // zooms in one step, keeping the middle of the window where it is
+  void zoomIn() {
+    if (this.zoom > 0) {
+      this.zoomTo(this.zoom - 1);
+    }
+  }
+
+  // zooms out one step, until the whole maze fits in the window
+  void zoomOut() {
+    if (this.mazeWidth() > this.width || this.mazeHeight() > this.height) {
+      this.zoomTo(this.zoom + 1);
+    }
+  }
+
+  // zooms to the given zoom, keeping the cell in the middle of the window
+  // there, and draws the window again
+  void zoomTo(int zoom) {
+    double ratio = this.scale(zoom) / this.scale(this.zoom);
+    int middleX = (int) ((this.left + this.width / 2) * ratio);
+    int middleY = (int) ((this.top + this.height / 2) * ratio);
+    this.zoom = zoom;
+    this.moveTo(middleX - this.width / 2, middleY - this.height / 2);
+  }
+
+  // moves the window by the given pixels at the current zoom
+  void pan(int dx, int dy) {
+    this.moveTo(this.left + dx, this.top + dy);
+  }
+
+  // moves the top left of the window to the given pixel of the maze, or as
+  // close as it gets without going past the edge, and draws it again
+  void moveTo(int left, int top) {
+    this.left = Math.max(0, Math.min(left, this.mazeWidth() - this.width));
+    this.top = Math.max(0, Math.min(top, this.mazeHeight() - this.height));
+    this.redraw();
+  }
+
+  // draws the whole window, in time for the pixels of the window, not the
+  // cells of the maze
+  void redraw() {
+    this.rectangle(0, 0, this.width, this.height, CLEAR);
+    if (this.detailed()) {
+      int pitch = PITCHES[this.zoom];
+      int lastX = Math.min(this.grid.width, (this.left + this.width - 1) / pitch + 1);
+      int lastY = Math.min(this.grid.height, (this.top + this.height - 1) / pitch + 1);
+      for (int y = this.top / pitch; y < lastY; y++) {
+        for (int x = this.left / pitch; x < lastX; x++) {
+          int cell = this.grid.id(x, y);
+          this.fill(cell,
+              this.overlay[cell] == 0 ? this.floor(cell) : OVERLAYS[this.overlay[cell]]);
+          if (this.grid.isOpen(this.grid.eastEdge(cell))) {
+            this.drawGap(this.grid.eastEdge(cell));
+          }
+          if (this.grid.isOpen(this.grid.southEdge(cell))) {
+            this.drawGap(this.grid.southEdge(cell));
+          }
+        }
+      }
+    }
+    else {
+      int level = this.level();
+      int lastX = Math.min(this.width, this.columns(level) - this.left);
+      int lastY = Math.min(this.height, this.rows(level) - this.top);
+      for (int y = 0; y < lastY; y++) {
+        for (int x = 0; x < lastX; x++) {
+          this.image.setPixel(x, y, this.block(level, this.left + x, this.top + y));
+        }
+      }
+      for (int i = 0; i < this.coloredCount; i++) {
+        int cell = this.coloredCells[i];
+        this.point(cell, OVERLAYS[this.overlay[cell]]);
+      }
+    }
+  }
+
+  // the color of the given cell with nothing on it
+  Color floor(int cell) {
+    if (cell == 0) {
+      return START;
+    }
+    else if (cell == this.grid.cells() - 1) {
+      return END;
+    }
+    else {
+      return FLOOR;
+    }
+  }
+
+  // the color of the given block of the given level with nothing on it, the
+  // start or end if it holds them
+  Color block(int level, int x, int y) {
+    if (x == 0 && y == 0) {
+      return START;
+    }
+    else if (x == this.columns(level) - 1 && y == this.rows(level) - 1) {
+      return END;
+    }
+    else {
+      return SHADES[this.floors(level)[y * this.columns(level) + x] & 0xFF];
+    }
+  }
+
+  // the floor of every block of the given level of the pyramid, made from
+  // the level below the first time it is asked for
+  byte[] floors(int level) {
+    if (this.pyramid == null) {
+      this.pyramid = new byte[this.levels()][];
+    }
+    if (this.pyramid[level] == null) {
+      if (level > 0) {
+        this.floors(level - 1);
+      }
+      this.pyramid[level] = new byte[this.columns(level) * this.rows(level)];
+      for (int y = 0; y < this.rows(level); y++) {
+        for (int x = 0; x < this.columns(level); x++) {
+          this.refloor(level, x, y);
+        }
+      }
+    }
+    return this.pyramid[level];
+  }
+
+  // works out the floor of the given block of the given level again
+  // a cell 2 pixels a side is a pixel of floor, one of its east wall, one of
+  // its south wall and one of the corner, which is always wall, so a cell is
+  // a quarter floor and a quarter more for each of the walls knocked down
+  // a bigger block is the average of the up to 4 blocks below it
+  void refloor(int level, int x, int y) {
+    int floor;
+    if (level == 0) {
+      int cell = this.grid.id(x, y);
+      int pixels = 1 + (this.grid.isOpen(this.grid.eastEdge(cell)) ? 1 : 0)
+          + (this.grid.isOpen(this.grid.southEdge(cell)) ? 1 : 0);
+      floor = pixels * 255 / 4;
+    }
+    else {
+      byte[] below = this.pyramid[level - 1];
+      int columns = this.columns(level - 1);
+      int sum = 0;
+      int count = 0;
+      for (int by = y * 2; by < Math.min(y * 2 + 2, this.rows(level - 1)); by++) {
+        for (int bx = x * 2; bx < Math.min(x * 2 + 2, columns); bx++) {
+          sum += below[by * columns + bx] & 0xFF;
+          count += 1;
+        }
+      }
+      floor = sum / count;
+    }
+    this.pyramid[level][y * this.columns(level) + x] = (byte) floor;
+  }
+
+  // sets the pixels of the given rectangle of the window, the part of it
+  // inside the window
+  void rectangle(int left, int top, int width, int height, Color color) {
+    int right = Math.min(left + width, this.width);
+    int bottom = Math.min(top + height, this.height);
+    for (int y = Math.max(top, 0); y < bottom; y++) {
+      for (int x = Math.max(left, 0); x < right; x++) {
+        this.image.setPixel(x, y, color);
+      }
+    }
+  }
+
+  // fills the square of the given cell with the given color, zoomed in
+  void fill(int cell, Color color) {
+    int pitch = PITCHES[this.zoom];
+    this.rectangle(this.grid.x(cell) * pitch - this.left, this.grid.y(cell) * pitch - this.top,
+        pitch - 1, pitch - 1, color);
+  }
+
+  // draws the gap of the given wall gray if it is knocked down, or clears it
+  // if it stands, zoomed in
+  void drawGap(int edge) {
+    Color color = this.grid.isOpen(edge) ? FLOOR : CLEAR;
+    int cell = this.grid.edgeFrom(edge);
+    int pitch = PITCHES[this.zoom];
+    int left = this.grid.x(cell) * pitch - this.left;
+    int top = this.grid.y(cell) * pitch - this.top;
+    if ((edge & 1) == 0) {
+      this.rectangle(left + pitch - 1, top, 1, pitch - 1, color);
+    }
+    else {
+      this.rectangle(left, top + pitch - 1, pitch - 1, 1, color);
+    }
+  }
+
+  // sets the pixel of the block of the given cell to the given color, zoomed
+  // out
+  void point(int cell, Color color) {
+    int x = (this.grid.x(cell) >> this.level()) - this.left;
+    int y = (this.grid.y(cell) >> this.level()) - this.top;
+    if (x >= 0 && y >= 0 && x < this.width && y < this.height) {
+      this.image.setPixel(x, y, color);
+    }
+  }
+
+  // draws the given wall as it is now, after it was knocked down or put up,
+  // and brings the blocks of the pyramid it is in up to date
+  void drawWall(int edge) {
+    int cell = this.grid.edgeFrom(edge);
+    if (this.pyramid != null) {
+      for (int level = 0; level < this.pyramid.length && this.pyramid[level] != null; level++) {
+        this.refloor(level, this.grid.x(cell) >> level, this.grid.y(cell) >> level);
+      }
+    }
+    if (this.detailed()) {
+      this.drawGap(edge);
+    }
+    else {
+      this.point(cell, this.block(this.level(), this.grid.x(cell) >> this.level(),
+          this.grid.y(cell) >> this.level()));
+    }
+  }
+
+  // colors in the given cell with the given overlay, on top of whatever it
+  // had
+  void color(int cell, int overlay) {
+    if (this.overlay[cell] == 0) {
+      this.coloredCells[this.coloredCount++] = cell;
+    }
+    this.overlay[cell] = (byte) overlay;
+    if (this.detailed()) {
+      this.fill(cell, OVERLAYS[overlay]);
+    }
+    else {
+      this.point(cell, OVERLAYS[overlay]);
+    }
+  }
+
+  // puts back every cell colored in since the maze was last drawn clean,
+  // in time for the cells colored, not the whole maze
+  void clear() {
+    for (int i = 0; i < this.coloredCount; i++) {
+      int cell = this.coloredCells[i];
+      this.overlay[cell] = 0;
+      if (this.detailed()) {
+        this.fill(cell, this.floor(cell));
+      }
+      else {
+        this.point(cell, this.block(this.level(), this.grid.x(cell) >> this.level(),
+            this.grid.y(cell) >> this.level()));
+      }
+    }
+    this.coloredCount = 0;
+  }
+
+  // the edge id of the wall of the clicked cell nearest the given point of
+  // the window, or -1 if the point is off the maze, nearest the outside
+  // wall, or the window is zoomed out too far to tell the walls apart
+  // a point 0 to pitch - 1 pixels into a cell is nearest the west or north
+  // wall at 0 and the east or south wall at pitch - 1
+  int wallAt(Posn pos) {
+    if (!this.detailed() || PITCHES[this.zoom] < CLICKABLE || pos.x < 0 || pos.y < 0
+        || pos.x >= this.width || pos.y >= this.height) {
+      return -1;
+    }
+    int pitch = PITCHES[this.zoom];
+    int px = pos.x + this.left;
+    int py = pos.y + this.top;
+    int x = px / pitch;
+    int y = py / pitch;
+    if (x >= this.grid.width || y >= this.grid.height) {
+      return -1;
+    }
+    int cell = this.grid.id(x, y);
+    int east = pitch - 1 - px % pitch;
+    int south = pitch - 1 - py % pitch;
+    int west = px % pitch;
+    int north = py % pitch;
+    int nearest = Math.min(Math.min(east, south), Math.min(west, north));
+    if (nearest == east) {
+      return x < this.grid.width - 1 ? this.grid.eastEdge(cell) : -1;
+    }
+    else if (nearest == south) {
+      return y < this.grid.height - 1 ? this.grid.southEdge(cell) : -1;
+    }
+    else if (nearest == west) {
+      return x > 0 ? this.grid.eastEdge(cell - 1) : -1;
+    }
+    else {
+      return y > 0 ? this.grid.southEdge(cell - this.grid.width) : -1;
+    }
+  }
+}
@@ -0,0 +1,457 @@
+package maze;
+
+import java.util.*;
+import javalib.impworld.*;
+import java.awt.Color;
+import javalib.worldimages.*;
+
+// represents the maze solver game
+class MazeGame extends World {
+  // the pictures that are the same in every frame, made once
+  static final WorldImage TITLE = new TextImage("Maze Solver", 75, FontStyle.BOLD_ITALIC,
+      Color.GREEN);
+  static final WorldImage[] INSTRUCTIONS = instructions("Press 'D' to solve the maze",
+      "via depth-first search", "Press 'B' to solve the maze", "via breadth-first search",
+      "Press 'A', 'T' or 'F' to solve it via A*,", "two-way BFS or dead-end filling",
+      "Press 'R' to restart the maze", "Click a wall to knock it down or put it up",
+      "Arrows move, + and - zoom, [ and ] change the speed");
+  static final int[] INSTRUCTION_ROWS = {700, 718, 737, 755, 774, 792, 823, 845, 867};
+  static final WorldImage TIMER_BACK = new RectangleImage(200, 40, OutlineMode.SOLID, Color.PINK);
+  // the lines of counts under the maze and where they go, in the order of
+  // the numbers counts() gives
+  static final String[] COUNT_LABELS = {"DFS Count: ", "BFS Count: ", "Solution Path Count: ",
+      "Wrong DFS Moves: ", "Wrong BFS Moves: ", "A* Count: ", "Two-way Count: ", "Fill Count: ",
+      "Wrong A* Moves: ", "Wrong Two-way Moves: ", "Wrong Fill Moves: "};
+  static final int[][] COUNT_SPOTS = {{500, 730}, {500, 700}, {360, 670}, {200, 730},
+      {200, 700}, {500, 760}, {500, 790}, {500, 820}, {200, 760}, {200, 790}, {200, 820}};
+  // the cells of a maze for every step a tick its searches are shown at to
+  // start with, so a big maze shows its search in about the same time as one
+  // of this many cells
+  static final int CELLS_A_STEP = 2500;
+
+  int boardX;
+  int boardY;
+  // the name of the generator, kept when the maze is restarted
+  String generator;
+  // the fraction of walls knocked down to make loops, kept as well
+  double braid;
+
+  Maze maze;
+  // the searches done on this maze so far by key, kept until its walls
+  // change, so going back to a search replays it without solving it again
+  HashMap<String, SearchTrace> traces;
+  // replays the search shown now, or the cells an edit changed, some steps
+  // a tick
+  TracePlayer player;
+  // the quarter of the path each cell of the path is in, 0 for the last
+  // quarter up to 3 for the first, found once when the path is
+  int[] pathBands;
+  // room for the path after a click, made once for every cell and reused by
+  // every click, since restarting keeps the size of the maze
+  int[] editPath;
+  // the picture of the maze, made for the first frame and then only painted
+  // where the cells change
+  MazeCanvas canvas;
+  // the pictures of the timer, the counts and which of bfs and dfs took
+  // fewer moves, with the numbers they show, made again only when a number
+  // changes, so most frames make no text at all
+  int timerSeconds;
+  WorldImage timerImage;
+  int[] counts;
+  int[] drawnCounts;
+  WorldImage[] countImages;
+  WorldImage winnerImage;
+
+  int tick;
+  int dCount;
+  int bCount;
+  int wDCount;
+  int wBCount;
+  // the same counts for a*, two way bfs and dead end filling
+  int aCount;
+  int wACount;
+  int tCount;
+  int wTCount;
+  int fCount;
+  int wFCount;
+
+  // the constructor, for a maze nobody needs to replay
+  MazeGame(int boardX, int boardY) {
+    this(boardX, boardY, new Random().nextLong());
+  }
+
+  // the constructor, the same size and seed always make the same maze
+  MazeGame(int boardX, int boardY, long seed) {
+    this(boardX, boardY, seed, Maze.KRUSKAL);
+  }
+
+  // the constructor, with the name of the generator to use, one of
+  // Maze.GENERATORS
+  MazeGame(int boardX, int boardY, long seed, String generator) {
+    this(boardX, boardY, seed, generator, 0);
+  }
+
+  // the constructor, for a maze with loops, where the given fraction of the
+  // walls left standing is knocked down
+  MazeGame(int boardX, int boardY, long seed, String generator, double braid) {
+    this.boardX = boardX;
+    this.boardY = boardY;
+    this.generator = generator;
+    this.braid = braid;
+    Maze maze = new Maze(boardX, boardY, seed, generator, braid);
+    this.traces = new HashMap<String, SearchTrace>();
+    this.player = new TracePlayer(SearchTrace.NONE,
+        Math.max(1, maze.grid.cells() / CELLS_A_STEP));
+    this.editPath = new int[maze.grid.cells()];
+    this.counts = new int[COUNT_LABELS.length];
+    this.drawnCounts = new int[COUNT_LABELS.length];
+    this.countImages = new WorldImage[COUNT_LABELS.length];
+    this.start(maze);
+  }
+
+  // plays the given maze from the start, with no searches shown or kept and
+  // every count back to 0, keeping the speed of the replay
+  void start(Maze maze) {
+    this.maze = maze;
+    this.canvas = null;
+    this.traces.clear();
+    this.player = new TracePlayer(SearchTrace.NONE, this.player.speed);
+    this.pathBands = new int[0];
+    this.tick = 0;
+    this.dCount = 0;
+    this.bCount = 0;
+    this.wDCount = 0;
+    this.wBCount = 0;
+    this.aCount = 0;
+    this.wACount = 0;
+    this.tCount = 0;
+    this.wTCount = 0;
+    this.fCount = 0;
+    this.wFCount = 0;
+  }
+
+  // the pictures of the given lines of instructions
+  static WorldImage[] instructions(String... lines) {
+    WorldImage[] images = new WorldImage[lines.length];
+    for (int i = 0; i < lines.length; i++) {
+      images[i] = new TextImage(lines[i], 20, FontStyle.REGULAR, Color.BLACK);
+    }
+    return images;
+  }
+
+  // creates a vertex for the given cell, with no edges
+  Vertex vertex(int cell) {
+    return new Vertex(new Posn(this.maze.grid.x(cell), this.maze.grid.y(cell)),
+        new ArrayList<Edge>());
+  }
+
+  // creates the vertices of the cells the search shown now looked at, in
+  // order, marked searched if the replay has shown them, only for the tests
+  // and callers that want objects
+  ArrayList<Vertex> seenVertices() {
+    ArrayList<Vertex> seen = new ArrayList<Vertex>();
+    for (int i = 0; i < this.player.trace.seen.length; i++) {
+      Vertex v = this.vertex(this.player.trace.seen[i]);
+      v.isSearch = i < this.player.shown;
+      seen.add(v);
+    }
+    return seen;
+  }
+
+  // creates the vertices of the path of the search shown now, from the
+  // target back to the source, marked correct if the replay has shown them
+  ArrayList<Vertex> pathVertices() {
+    ArrayList<Vertex> path = new ArrayList<Vertex>();
+    for (int i = 0; i < this.player.trace.path.length; i++) {
+      Vertex v = this.vertex(this.player.trace.path[i]);
+      v.isCorrect = this.player.trace.seen.length + i < this.player.shown;
+      path.add(v);
+    }
+    return path;
+  }
+
+  // creates the board of vertices for this maze, each holding the edges of
+  // its knocked down walls, only for the tests and callers that want objects
+  // the weights are only known while the maze is generated, so every edge
+  // gets a weight of 0
+  ArrayList<ArrayList<Vertex>> board() {
+    ArrayList<ArrayList<Vertex>> finalBoard = new ArrayList<ArrayList<Vertex>>();
+    for (int i = 0; i < this.boardX; i++) {
+      ArrayList<Vertex> temp = new ArrayList<Vertex>();
+      for (int j = 0; j < this.boardY; j++) {
+        temp.add(this.vertex(this.maze.grid.id(i, j)));
+      }
+      finalBoard.add(temp);
+    }
+    for (int edge = 0; edge < this.maze.grid.edgeSlots(); edge++) {
+      if (this.maze.grid.isEdge(edge) && this.maze.grid.isOpen(edge)) {
+        int from = this.maze.grid.edgeFrom(edge);
+        int to = this.maze.grid.edgeTo(edge);
+        Edge view = new Edge(finalBoard.get(this.maze.grid.x(from)).get(this.maze.grid.y(from)),
+            finalBoard.get(this.maze.grid.x(to)).get(this.maze.grid.y(to)), 0);
+        view.from.outer.add(view);
+        view.to.outer.add(view);
+      }
+    }
+    return finalBoard;
+  }
+
+  // makes the scene
+  public WorldScene makeScene() {
+
+    WorldScene finalScene = new WorldScene(1500, 900);
+
+    // draws the title and the instructions
+    finalScene.placeImageXY(TITLE, 800, 650);
+    for (int i = 0; i < INSTRUCTIONS.length; i++) {
+      finalScene.placeImageXY(INSTRUCTIONS[i], 800, INSTRUCTION_ROWS[i]);
+    }
+
+    // draws the timer
+    finalScene.placeImageXY(this.timerImage(), 1100, 730);
+
+    // draws the counts, the wrong moves and the solution path count
+    WorldImage[] countImages = this.countImages();
+    for (int i = 0; i < countImages.length; i++) {
+      finalScene.placeImageXY(countImages[i], COUNT_SPOTS[i][0], COUNT_SPOTS[i][1]);
+    }
+
+    // draws which of bfs and dfs takes less moves, once both have run
+    if (this.winnerImage != null) {
+      finalScene.placeImageXY(this.winnerImage, 360, 640);
+    }
+
+    // draws the part of the maze in the window, which only paints the cells
+    // changed since the last frame
+    MazeCanvas canvas = this.canvas();
+    finalScene.placeImageXY(canvas.image, canvas.width / 2, canvas.height / 2);
+
+    return finalScene;
+  }
+
+  // the picture of the timer, made again only when the seconds change
+  WorldImage timerImage() {
+    int seconds = this.tick / 20;
+    if (this.timerImage == null || seconds != this.timerSeconds) {
+      this.timerSeconds = seconds;
+      this.timerImage = new OverlayImage(new TextImage(
+          "Timer: " + Integer.toString(seconds) + " seconds", 20, Color.BLACK), TIMER_BACK);
+    }
+    return this.timerImage;
+  }
+
+  // the pictures of the lines of counts, in the order of COUNT_LABELS, each
+  // made again only when its number changes, and the line saying which of
+  // bfs and dfs took less moves with them
+  WorldImage[] countImages() {
+    this.counts[0] = this.dCount;
+    this.counts[1] = this.bCount;
+    this.counts[2] = this.player.trace.path.length;
+    this.counts[3] = this.wDCount;
+    this.counts[4] = this.wBCount;
+    this.counts[5] = this.aCount;
+    this.counts[6] = this.tCount;
+    this.counts[7] = this.fCount;
+    this.counts[8] = this.wACount;
+    this.counts[9] = this.wTCount;
+    this.counts[10] = this.wFCount;
+    boolean changed = false;
+    for (int i = 0; i < this.counts.length; i++) {
+      if (this.countImages[i] == null || this.counts[i] != this.drawnCounts[i]) {
+        this.drawnCounts[i] = this.counts[i];
+        this.countImages[i] = new TextImage(COUNT_LABELS[i] + Integer.toString(this.counts[i]),
+            20, Color.PINK);
+        changed = true;
+      }
+    }
+    if (changed) {
+      this.winnerImage = null;
+      if (this.bCount < this.dCount && this.bCount != 0 && this.dCount != 0) {
+        this.winnerImage = new TextImage(
+            "BFS takes " + Integer.toString(this.dCount - this.bCount) + " less moves!", 20,
+            Color.PINK);
+      }
+      if (this.dCount < this.bCount && this.dCount != 0 && this.bCount != 0) {
+        this.winnerImage = new TextImage(
+            "DFS takes " + Integer.toString(this.bCount - this.dCount) + " less moves!", 20,
+            Color.PINK);
+      }
+    }
+    return this.countImages;
+  }
+
+  // the picture of the maze, made the first time it is drawn with the steps
+  // of the replay shown so far
+  MazeCanvas canvas() {
+    if (this.canvas == null) {
+      this.canvas = new MazeCanvas(this.maze.grid);
+      for (int step = 0; step < this.player.shown; step++) {
+        this.paint(step);
+      }
+    }
+    return this.canvas;
+  }
+
+  // colors in the cell of the given step of the replay, in the quarter of
+  // the path it is in if it is on the path
+  void paint(int step) {
+    SearchTrace trace = this.player.trace;
+    if (trace.onPath(step)) {
+      this.canvas.color(trace.cell(step),
+          MazeCanvas.PATH_OVERLAY + this.pathBands[step - trace.seen.length]);
+    }
+    else {
+      this.canvas.color(trace.cell(step), MazeCanvas.SEEN_OVERLAY);
+    }
+  }
+
+  // the quarter of a path of the given size that the given index is in,
+  // the later quarter where two meet, so the same as drawing drawCorrect1 to
+  // drawCorrect4 in turn over every index they match
+  static int band(int index, int size) {
+    return MazeRaster.band(index, size);
+  }
+
+  // finds the quarter of every index of the path, once when the path is
+  // found, so drawing a path cell never has to look for it in the path
+  void markBands() {
+    int size = this.player.trace.path.length;
+    this.pathBands = new int[size];
+    for (int i = 0; i < size; i++) {
+      this.pathBands[i] = band(i, size);
+    }
+  }
+
+  // moves the player and also switches between the searches: breadth-first,
+  // depth-first, a*, two-way breadth-first and dead-end filling, moves and
+  // zooms the window onto the maze, a quarter of the window at a time, and
+  // halves or doubles the steps the replay shows a tick
+  public void onKeyEvent(String ke) {
+
+    if (ke.equals("[")) {
+      this.player.speed = Math.max(1, this.player.speed / 2);
+    }
+    else if (ke.equals("]")) {
+      this.player.speed *= 2;
+    }
+
+    if (ke.equals("left")) {
+      this.canvas().pan(-this.canvas().width / 4, 0);
+    }
+    else if (ke.equals("right")) {
+      this.canvas().pan(this.canvas().width / 4, 0);
+    }
+    else if (ke.equals("up")) {
+      this.canvas().pan(0, -this.canvas().height / 4);
+    }
+    else if (ke.equals("down")) {
+      this.canvas().pan(0, this.canvas().height / 4);
+    }
+    else if (ke.equals("+") || ke.equals("=")) {
+      this.canvas().zoomIn();
+    }
+    else if (ke.equals("-")) {
+      this.canvas().zoomOut();
+    }
+
+    if (MazeSolver.isKey(ke)) {
+      this.tick = 0;
+      this.solveMaze(ke);
+      int count = this.player.trace.seen.length;
+      int wrong = count - this.player.trace.path.length;
+      if (ke.equals("b")) {
+        this.bCount = count;
+        this.wBCount = wrong;
+      }
+      else if (ke.equals("d")) {
+        this.dCount = count;
+        this.wDCount = wrong;
+      }
+      else if (ke.equals("a")) {
+        this.aCount = count;
+        this.wACount = wrong;
+      }
+      else if (ke.equals("t")) {
+        this.tCount = count;
+        this.wTCount = wrong;
+      }
+      else {
+        this.fCount = count;
+        this.wFCount = wrong;
+      }
+    }
+
+    // only the maze is made again, the replay keeps its speed
+    if (ke.equals("r")) {
+      this.start(new Maze(this.boardX, this.boardY, this.maze.random.nextLong(),
+          this.generator, this.braid));
+    }
+  }
+
+  // knocks down the wall nearest the clicked point, or puts it back up, and
+  // shows the cells whose distances changed and the new shortest path,
+  // brought up to date by the maze's routes instead of searching again
+  public void onMouseClicked(Posn pos) {
+    int edge = this.wallAt(pos);
+    if (edge != -1) {
+      IncrementalSolver routes = this.maze.routes();
+      if (this.maze.grid.isOpen(edge)) {
+        this.maze.putUp(edge);
+      }
+      else {
+        this.maze.knockDown(edge);
+      }
+      this.tick = 0;
+      this.traces.clear();
+      if (this.canvas != null) {
+        this.canvas.clear();
+        this.canvas.drawWall(edge);
+      }
+      int count = routes.path(this.maze.grid.cells() - 1, this.editPath);
+      this.player = new TracePlayer(
+          SearchTrace.copy(routes.changed, routes.changedCount, this.editPath, count),
+          this.player.speed);
+      this.markBands();
+    }
+  }
+
+  // the edge id of the wall of the clicked cell nearest the given point, or
+  // -1 if there is none, see MazeCanvas.wallAt
+  int wallAt(Posn pos) {
+    return this.canvas().wallAt(pos);
+  }
+
+  // solves the maze with the search of the given key, from the top left
+  // cell to the bottom right cell, or takes the trace of the last time it
+  // did since the walls changed, and replays it from the start
+  void solveMaze(String ke) {
+    if (this.canvas != null) {
+      this.canvas.clear();
+    }
+    SearchTrace trace = SearchTrace.NONE;
+    if (MazeSolver.isKey(ke)) {
+      trace = this.traces.get(ke);
+      if (trace == null) {
+        trace = this.maze.solver.trace(ke, 0, this.maze.grid.cells() - 1);
+        this.traces.put(ke, trace);
+      }
+    }
+    this.player = new TracePlayer(trace, this.player.speed);
+    this.markBands();
+  }
+
+  // onTick method, counts the timer and shows the next steps of the replay
+  public void onTick() {
+    if (this.tick > -1) {
+      this.tick += 1;
+    }
+
+    int from = this.player.advance();
+    if (this.canvas != null) {
+      for (int step = from; step < this.player.shown; step++) {
+        this.paint(step);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,12 @@
+package maze;
+
+// knocks walls down on the grid of a maze until it is a perfect maze, with
+// exactly one path between any two cells
+// a generator only writes the bytes of the grid and any arrays of its own,
+// and draws every random choice from the maze's random, so the same seed
+// always makes the same maze
+interface MazeGenerator {
+  // knocks down the walls of the maze's grid, which starts with every wall
+  // standing
+  void generate(Maze maze);
+}
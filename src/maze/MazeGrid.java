@@ -0,0 +1,187 @@
+package maze;
+
+// represents the cells and walls of a rectangular maze
+// cells are int ids numbered row by row, and each cell keeps one byte
+// that records whether its east and south walls have been knocked down
+class MazeGrid {
+  static final int EAST = 1;
+  static final int SOUTH = 2;
+
+  int width;
+  int height;
+  byte[] open;
+
+  // the constructor, every wall starts standing
+  MazeGrid(int width, int height) {
+    if (width < 1 || height < 1) {
+      throw new IllegalArgumentException("A maze needs at least one cell");
+    }
+    this.width = width;
+    this.height = height;
+    this.open = new byte[width * height];
+  }
+
+  // the number of cells in this grid
+  int cells() {
+    return this.width * this.height;
+  }
+
+  // the id of the cell at the given column and row
+  int id(int x, int y) {
+    return y * this.width + x;
+  }
+
+  // the column of the given cell
+  int x(int cell) {
+    return cell % this.width;
+  }
+
+  // the row of the given cell
+  int y(int cell) {
+    return cell / this.width;
+  }
+
+  // the number of edge ids, two per cell: the east wall is cell * 2 and the
+  // south wall is cell * 2 + 1
+  int edgeSlots() {
+    return this.cells() * 2;
+  }
+
+  // the edge id of the east wall of the given cell
+  int eastEdge(int cell) {
+    return cell * 2;
+  }
+
+  // the edge id of the south wall of the given cell
+  int southEdge(int cell) {
+    return cell * 2 + 1;
+  }
+
+  // is the given edge id a wall between two cells of this grid?
+  boolean isEdge(int edge) {
+    int cell = edge >> 1;
+    if ((edge & 1) == 0) {
+      return this.x(cell) < this.width - 1;
+    }
+    else {
+      return this.y(cell) < this.height - 1;
+    }
+  }
+
+  // the cell on the west or north side of the given edge
+  int edgeFrom(int edge) {
+    return edge >> 1;
+  }
+
+  // the cell on the east or south side of the given edge
+  int edgeTo(int edge) {
+    if ((edge & 1) == 0) {
+      return (edge >> 1) + 1;
+    }
+    else {
+      return (edge >> 1) + this.width;
+    }
+  }
+
+  // is the given edge knocked down?
+  boolean isOpen(int edge) {
+    int bit = (edge & 1) == 0 ? EAST : SOUTH;
+    return (this.open[edge >> 1] & bit) != 0;
+  }
+
+  // knocks down the given edge, which must be a wall between two cells of
+  // this grid, so the east walls of the last column and the south walls of
+  // the last row stay up
+  void carve(int edge) {
+    int bit = (edge & 1) == 0 ? EAST : SOUTH;
+    this.open[edge >> 1] |= bit;
+  }
+
+  // the edge id of the wall between the two given cells, which must be side
+  // by side
+  int edgeBetween(int cell1, int cell2) {
+    int low = Math.min(cell1, cell2);
+    int high = Math.max(cell1, cell2);
+    return high - low == 1 ? this.eastEdge(low) : this.southEdge(low);
+  }
+
+  // writes the cells next to the given cell into out, whether or not the
+  // walls between them are standing, in east, south, west, north order, and
+  // returns how many there are
+  int adjacent(int cell, int[] out) {
+    int x = this.x(cell);
+    int count = 0;
+    if (x < this.width - 1) {
+      out[count++] = cell + 1;
+    }
+    if (cell + this.width < this.cells()) {
+      out[count++] = cell + this.width;
+    }
+    if (x > 0) {
+      out[count++] = cell - 1;
+    }
+    if (cell >= this.width) {
+      out[count++] = cell - this.width;
+    }
+    return count;
+  }
+
+  // puts the given edge back up
+  void close(int edge) {
+    int bit = (edge & 1) == 0 ? EAST : SOUTH;
+    this.open[edge >> 1] &= ~bit;
+  }
+
+  // writes the cells reachable in one step from the given cell into out, in
+  // east, south, west, north order, and returns how many there are
+  // the last column never has an open east wall, so the cell before one in
+  // the first column never looks open to the west, and no division is needed
+  int neighbors(int cell, int[] out) {
+    int count = 0;
+    byte walls = this.open[cell];
+    if ((walls & EAST) != 0) {
+      out[count++] = cell + 1;
+    }
+    if ((walls & SOUTH) != 0) {
+      out[count++] = cell + this.width;
+    }
+    if (cell > 0 && (this.open[cell - 1] & EAST) != 0) {
+      out[count++] = cell - 1;
+    }
+    if (cell >= this.width && (this.open[cell - this.width] & SOUTH) != 0) {
+      out[count++] = cell - this.width;
+    }
+    return count;
+  }
+
+  // the number of knocked down walls in this grid
+  int openEdges() {
+    int count = 0;
+    for (byte walls : this.open) {
+      count += Integer.bitCount(walls & (EAST | SOUTH));
+    }
+    return count;
+  }
+
+  // draws the walls of this grid with +, - and | characters, one line of
+  // cells and one line of south walls for every row
+  String text() {
+    StringBuilder out = new StringBuilder("+");
+    for (int x = 0; x < this.width; x++) {
+      out.append("--+");
+    }
+    out.append('\n');
+    for (int y = 0; y < this.height; y++) {
+      out.append('|');
+      for (int x = 0; x < this.width; x++) {
+        out.append((this.open[this.id(x, y)] & EAST) != 0 ? "   " : "  |");
+      }
+      out.append("\n+");
+      for (int x = 0; x < this.width; x++) {
+        out.append((this.open[this.id(x, y)] & SOUTH) != 0 ? "  +" : "--+");
+      }
+      out.append('\n');
+    }
+    return out.toString();
+  }
+}
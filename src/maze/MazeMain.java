@@ -0,0 +1,81 @@
+package maze;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Random;
+
+// runs without a display: builds the maze for the given width, height and
+// seed and prints it as text
+// java -jar maze-game.jar [width] [height] [seed]
+// java -jar maze-game.jar batch width height count seed [b|d|a|t|f] [threads] [generator]
+// [braid] runs a MazeBatch
+// java -jar maze-game.jar stream width height seed writes an eller maze row by
+// row, in memory that grows with the width only
+// java -jar maze-game.jar queries width height seed [threads] [cache] answers
+// the "source target" lines on standard input with MazeQueries
+// java -jar maze-game.jar picture width height seed file [pitch] [b|d|a|t|f]
+// writes the maze to a png with MazeRaster, solved with the given search
+class MazeMain {
+
+  public static void main(String[] args) {
+    if (args.length > 0 && args[0].equals("batch")) {
+      MazeBatch.fromArgs(Arrays.copyOfRange(args, 1, args.length))
+          .run(new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out))));
+      return;
+    }
+    if (args.length > 0 && args[0].equals("queries")) {
+      MazeQueries.fromArgs(Arrays.copyOfRange(args, 1, args.length))
+          .run(new BufferedReader(new InputStreamReader(System.in)),
+              new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out))));
+      return;
+    }
+    if (args.length > 0 && args[0].equals("picture")) {
+      if (args.length < 5) {
+        throw new IllegalArgumentException(
+            "Usage: picture width height seed file [pitch] [b|d|a|t|f]");
+      }
+      picture(Arrays.copyOfRange(args, 1, args.length));
+      return;
+    }
+    if (args.length > 0 && args[0].equals("stream")) {
+      if (args.length != 4) {
+        throw new IllegalArgumentException("Usage: stream width height seed");
+      }
+      new EllerMaze(Integer.parseInt(args[1]), Integer.parseInt(args[2]), Long.parseLong(args[3]))
+          .generate(new TextRows(new BufferedWriter(new OutputStreamWriter(System.out))));
+      return;
+    }
+    int width = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+    int height = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+    long seed = args.length > 2 ? Long.parseLong(args[2]) : new Random().nextLong();
+    System.out.print(new Maze(width, height, seed).grid.text());
+  }
+
+  // draws the maze of the given width, height and seed, 2 pixels a cell
+  // unless told otherwise, and solved if given a search, and writes it to
+  // the given file
+  static void picture(String[] args) {
+    Maze maze = new Maze(Integer.parseInt(args[0]), Integer.parseInt(args[1]),
+        Long.parseLong(args[2]));
+    MazeRaster raster = new MazeRaster(maze.grid, args.length > 4 ? Integer.parseInt(args[4]) : 2);
+    if (args.length > 5) {
+      maze.solver.solve(args[5], 0, maze.grid.cells() - 1);
+      raster.color(maze.solver);
+    }
+    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(args[3]))) {
+      raster.write(out);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
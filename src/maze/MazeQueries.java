@@ -0,0 +1,226 @@
+package maze;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+// answers many path and distance queries on one maze at once, spread over the
+// threads of a fork join pool
+// every query reads the maze's tree index, which no query changes, so queries
+// share nothing but the caches of the paths and distances asked for most
+// recently
+// each batch asks the maze for its tree, so a batch after knockDown or putUp
+// sees the new walls; the tree and its caches come as one CachedTree, so a
+// batch still running on the old walls only fills the old tree's caches,
+// which no later batch reads
+// java -jar maze-game.jar queries width height seed [threads] [cache] reads
+// "source target" lines and writes the distance between each pair
+class MazeQueries {
+  // how many queries one task answers before handing them back
+  static final int CHUNK = 1024;
+  // how many queries are read before they are answered
+  static final int BATCH = 64 * CHUNK;
+
+  Maze maze;
+  // the maze's tree and what was found on it, null before the first query
+  CachedTree current;
+  // how many distances, and how many paths, each tree's caches hold
+  int capacity;
+  int threads;
+
+  // the number of queries and the time the last run took
+  long count;
+  long wallNanos;
+
+  // the constructor
+  MazeQueries(Maze maze, int threads, int cacheSize) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("Queries need at least one thread");
+    }
+    this.maze = maze;
+    this.capacity = cacheSize;
+    this.threads = threads;
+  }
+
+  // builds the queries from the command line arguments after "queries", on
+  // every core and with room for 4096 distances and paths unless told
+  // otherwise
+  static MazeQueries fromArgs(String[] args) {
+    if (args.length < 3) {
+      throw new IllegalArgumentException("Usage: queries width height seed [threads] [cache]");
+    }
+    return new MazeQueries(
+        new Maze(Integer.parseInt(args[0]), Integer.parseInt(args[1]), Long.parseLong(args[2])),
+        args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors(),
+        args.length > 4 ? Integer.parseInt(args[4]) : 4096);
+  }
+
+  // the maze's tree as it is now with its caches, new ones if the walls
+  // changed since the last query
+  synchronized CachedTree refresh() {
+    MazeTree tree = this.maze.tree();
+    if (this.current == null || this.current.tree != tree) {
+      this.current = new CachedTree(tree, this.capacity);
+    }
+    return this.current;
+  }
+
+  // the number of steps from the source to the target
+  int distance(int source, int target) {
+    return this.distance(this.refresh(), source, target);
+  }
+
+  // the number of steps from the source to the target on the given tree,
+  // safe to call from any thread
+  int distance(CachedTree on, int source, int target) {
+    this.check(source);
+    this.check(target);
+    return on.distance(source, target);
+  }
+
+  // the cells of the path from the source to the target
+  int[] path(int source, int target) {
+    return this.path(this.refresh(), source, target);
+  }
+
+  // the cells of the path from the source to the target on the given tree,
+  // safe to call from any thread, shared with other callers if it goes from
+  // the lower cell to the higher, so nobody may change it
+  int[] path(CachedTree on, int source, int target) {
+    this.check(source);
+    this.check(target);
+    return on.path(source, target);
+  }
+
+  // throws if the given cell isn't in the maze
+  void check(int cell) {
+    if (cell < 0 || cell >= this.maze.grid.cells()) {
+      throw new IllegalArgumentException("No such cell: " + cell);
+    }
+  }
+
+  // the distances from sources[i] to targets[i], in order
+  int[] distances(int[] sources, int[] targets) {
+    if (sources.length != targets.length) {
+      throw new IllegalArgumentException("Every source needs a target");
+    }
+    int[] answers = new int[sources.length];
+    ForkJoinPool pool = new ForkJoinPool(this.threads);
+    try {
+      this.answer(pool, sources, targets, sources.length, answers, null);
+    }
+    finally {
+      pool.shutdown();
+    }
+    return answers;
+  }
+
+  // the paths from sources[i] to targets[i], in order
+  int[][] paths(int[] sources, int[] targets) {
+    if (sources.length != targets.length) {
+      throw new IllegalArgumentException("Every source needs a target");
+    }
+    int[][] answers = new int[sources.length][];
+    ForkJoinPool pool = new ForkJoinPool(this.threads);
+    try {
+      this.answer(pool, sources, targets, sources.length, null, answers);
+    }
+    finally {
+      pool.shutdown();
+    }
+    return answers;
+  }
+
+  // answers the first count queries in chunks on the given pool, with their
+  // paths if paths isn't null and their distances if it is, each chunk
+  // writing only its own part of the answers, all on the maze's tree as it
+  // is when the batch starts
+  void answer(ForkJoinPool pool, int[] sources, int[] targets, int count, int[] distances,
+      int[][] paths) {
+    CachedTree on = this.refresh();
+    ArrayList<ForkJoinTask<QueryChunk>> chunks = new ArrayList<ForkJoinTask<QueryChunk>>();
+    for (int first = 0; first < count; first += CHUNK) {
+      chunks.add(pool.submit(new QueryChunk(this, on, sources, targets, distances, paths, first,
+          Math.min(count, first + CHUNK))));
+    }
+    for (ForkJoinTask<QueryChunk> chunk : chunks) {
+      chunk.join();
+    }
+  }
+
+  // reads "source target" lines until the end of in, answering them BATCH at
+  // a time, and writes a line with the distance between every pair in order
+  // and a summary at the end
+  void run(BufferedReader in, PrintWriter out) {
+    int[] sources = new int[BATCH];
+    int[] targets = new int[BATCH];
+    int[] answers = new int[BATCH];
+    this.count = 0;
+    out.println("source\ttarget\tdistance");
+
+    long start = System.nanoTime();
+    ForkJoinPool pool = new ForkJoinPool(this.threads);
+    try {
+      int read = this.read(in, sources, targets);
+      while (read > 0) {
+        this.answer(pool, sources, targets, read, answers, null);
+        for (int i = 0; i < read; i++) {
+          out.append(Integer.toString(sources[i])).append('\t')
+              .append(Integer.toString(targets[i])).append('\t')
+              .append(Integer.toString(answers[i])).append('\n');
+        }
+        this.count += read;
+        read = this.read(in, sources, targets);
+      }
+    }
+    finally {
+      pool.shutdown();
+    }
+    this.wallNanos = System.nanoTime() - start;
+    out.println(this.summary());
+    out.flush();
+  }
+
+  // reads up to a batch of pairs into sources and targets, skipping blank
+  // lines, and returns how many it read
+  int read(BufferedReader in, int[] sources, int[] targets) {
+    try {
+      int read = 0;
+      while (read < sources.length) {
+        String line = in.readLine();
+        if (line == null) {
+          return read;
+        }
+        String[] cells = line.trim().split("\\s+");
+        if (cells.length == 2) {
+          sources[read] = Integer.parseInt(cells[0]);
+          targets[read] = Integer.parseInt(cells[1]);
+          read += 1;
+        }
+        else if (!line.isBlank()) {
+          throw new IllegalArgumentException("Not a source and a target: " + line);
+        }
+      }
+      return read;
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // the statistics of the caches of the maze's tree as it was last queried,
+  // and the throughput over the last run
+  String summary() {
+    long nanos = Math.max(1, this.wallNanos);
+    CachedTree on = this.current;
+    return "# " + this.count + " queries " + this.maze.width + "x" + this.maze.height
+        + " threads " + this.threads + ": "
+        + (on == null ? "no caches yet"
+            : "distances " + on.distances.stats() + ", paths " + on.paths.stats())
+        + ", " + (long) (this.count * 1e9 / nanos) + " queries/s";
+  }
+}
@@ -0,0 +1,115 @@
+package maze;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import javax.imageio.ImageIO;
+
+// draws a whole maze into one ARGB raster, with the cells a search saw and
+// the path it found on top, for writing the maze out as a picture
+// the pixels are the int[] behind a BufferedImage, written in runs along
+// the rows: the first row of pixels of a row of cells is drawn, copied down
+// the rest of the cells, and the gaps of the south walls go under it, so
+// drawing costs a few array fills per cell, with no pictures or colors made
+// it uses no javalib, so it works headless with only the jar on the
+// classpath
+class MazeRaster {
+  // the colors the game draws with, as ARGB
+  static final int FLOOR = 0xFF808080;
+  static final int START = 0xFF00FF00;
+  static final int END = 0xFF9370DB;
+  static final int CLEAR = 0x00000000;
+  static final int SEEN = 0xFFADD8E6;
+  // the path from its end back to its start in quarters: dark blue, green,
+  // orange and red
+  static final int[] PATH = {0xFF00008B, 0xFF00FF00, 0xFFFFC800, 0xFFFF0000};
+
+  MazeGrid grid;
+  // the pixels from one cell to the next, the cell and a 1 pixel gap
+  int pitch;
+  int width;
+  int height;
+  BufferedImage image;
+  // the pixels of the image, row by row
+  int[] pixels;
+
+  // the constructor, draws the maze with nothing on it
+  MazeRaster(MazeGrid grid, int pitch) {
+    if (pitch < 2) {
+      throw new IllegalArgumentException("A cell needs at least 2 pixels");
+    }
+    if ((long) grid.width * pitch * grid.height * pitch > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("The picture is too big: " + grid.width * (long) pitch
+          + "x" + grid.height * (long) pitch);
+    }
+    this.grid = grid;
+    this.pitch = pitch;
+    this.width = grid.width * pitch;
+    this.height = grid.height * pitch;
+    this.image = new BufferedImage(this.width, this.height, BufferedImage.TYPE_INT_ARGB);
+    this.pixels = ((DataBufferInt) this.image.getRaster().getDataBuffer()).getData();
+    this.draw();
+  }
+
+  // the quarter of a path of the given size that the given index is in,
+  // the later quarter where two meet
+  static int band(int index, int size) {
+    int quarters = index * 4;
+    return (quarters >= size ? 1 : 0) + (quarters >= size * 2 ? 1 : 0)
+        + (quarters >= size * 3 ? 1 : 0);
+  }
+
+  // draws every cell and the gaps of the walls knocked down, row by row,
+  // reading the wall bits of the grid straight from its bytes
+  void draw() {
+    int side = this.pitch - 1;
+    for (int y = 0; y < this.grid.height; y++) {
+      int row = y * this.pitch * this.width;
+      int first = this.grid.id(0, y);
+      for (int x = 0; x < this.grid.width; x++) {
+        int at = row + x * this.pitch;
+        Arrays.fill(this.pixels, at, at + side, FLOOR);
+        this.pixels[at + side] = (this.grid.open[first + x] & MazeGrid.EAST) != 0 ? FLOOR : CLEAR;
+      }
+      for (int i = 1; i < side; i++) {
+        System.arraycopy(this.pixels, row, this.pixels, row + i * this.width, this.width);
+      }
+      int gaps = row + side * this.width;
+      for (int x = 0; x < this.grid.width; x++) {
+        int at = gaps + x * this.pitch;
+        Arrays.fill(this.pixels, at, at + side,
+            (this.grid.open[first + x] & MazeGrid.SOUTH) != 0 ? FLOOR : CLEAR);
+        this.pixels[at + side] = CLEAR;
+      }
+    }
+    this.fill(0, START);
+    this.fill(this.grid.cells() - 1, END);
+  }
+
+  // fills the square of the given cell with the given color
+  void fill(int cell, int color) {
+    int at = this.grid.y(cell) * this.pitch * this.width + this.grid.x(cell) * this.pitch;
+    for (int i = 0; i < this.pitch - 1; i++) {
+      Arrays.fill(this.pixels, at, at + this.pitch - 1, color);
+      at += this.width;
+    }
+  }
+
+  // colors in the cells the given solver saw, then its path in quarters,
+  // as the game shows them once a search is done
+  void color(MazeSolver solver) {
+    for (int i = 0; i < solver.seenCount; i++) {
+      this.fill(solver.seen[i], SEEN);
+    }
+    for (int i = 0; i < solver.pathCount; i++) {
+      this.fill(solver.path[i], PATH[band(i, solver.pathCount)]);
+    }
+  }
+
+  // writes the picture to the given stream as a png
+  void write(OutputStream out) throws IOException {
+    ImageIO.write(this.image, "png", out);
+  }
+}
@@ -0,0 +1,400 @@
+package maze;
+
+import java.util.Arrays;
+
+// searches a maze grid from one cell to another
+// all of its arrays are made once for the size of the grid and reused by
+// every search, so solving allocates nothing
+// every search leaves the cells it looked at in seen, in order, and the
+// path from the target back to the source in path
+class MazeSolver {
+  // the keys of the searches, the same keys the game uses
+  static final String BREADTH_FIRST = "b";
+  static final String DEPTH_FIRST = "d";
+  static final String A_STAR = "a";
+  static final String TWO_WAY = "t";
+  static final String DEAD_END_FILL = "f";
+  static final String[] KEYS = {BREADTH_FIRST, DEPTH_FIRST, A_STAR, TWO_WAY, DEAD_END_FILL};
+  // the keys of the searches that always find a shortest path, even in a
+  // maze with loops, where depth first search takes the first path it finds
+  static final String[] SHORTEST = {BREADTH_FIRST, A_STAR, TWO_WAY, DEAD_END_FILL};
+
+  MazeGrid grid;
+
+  // the cells waiting to be searched, a queue for bfs and a stack for dfs,
+  // every cell goes in at most once so it never needs to grow
+  int[] frontier;
+  // one bit per cell, set once the cell has gone into the frontier
+  long[] visited;
+  // the cell each cell was reached from
+  int[] parent;
+  int[] neighbors;
+
+  // the cells taken off the frontier, in the order they were searched
+  // breadth and depth first search add a cell once for every cell it pushes,
+  // as the game always counted them, so a fork is seen twice and a dead end
+  // not at all, and there is room for one per push
+  int[] seen;
+  int seenCount;
+  // the cells on the path, from the target back to the source
+  int[] path;
+  int pathCount;
+
+  // the rest are made by makeExtras
+  // a*: the steps from the source to each cell found so far, and the cells
+  // waiting, packed as estimate << 32 | cell
+  int[] distance;
+  LongHeap open;
+
+  // two way bfs: the search back from the target has its own frontier,
+  // visited bits and parents, and distance holds how far each cell is from
+  // whichever side found it
+  int[] backFrontier;
+  long[] backVisited;
+  int[] backParent;
+
+  // dead end filling: the number of open walls around each cell, or -1 once
+  // the cell is filled in
+  byte[] degree;
+
+  // the constructor
+  MazeSolver(MazeGrid grid) {
+    this.grid = grid;
+    this.frontier = new int[grid.cells()];
+    this.visited = new long[(grid.cells() + 63) >> 6];
+    this.parent = new int[grid.cells()];
+    this.neighbors = new int[4];
+    this.seen = new int[grid.cells()];
+    this.path = new int[grid.cells()];
+  }
+
+  // makes the arrays only a*, two way bfs and dead end filling use, the
+  // first time one of them runs, so mazes that are only searched breadth or
+  // depth first don't pay for them
+  void makeExtras() {
+    if (this.distance == null) {
+      this.distance = new int[this.grid.cells()];
+      this.open = new LongHeap(this.grid.cells());
+      this.backFrontier = new int[this.grid.cells()];
+      this.backVisited = new long[this.visited.length];
+      this.backParent = new int[this.grid.cells()];
+      this.degree = new byte[this.grid.cells()];
+    }
+  }
+
+  // is the given key the key of a search?
+  static boolean isKey(String key) {
+    return Arrays.asList(KEYS).contains(key);
+  }
+
+  // does the search of the given key always find a shortest path?
+  static boolean findsShortest(String key) {
+    return Arrays.asList(SHORTEST).contains(key);
+  }
+
+  // searches from the source to the target with the search of the given
+  // key, returns whether the target was found
+  boolean solve(String key, int source, int target) {
+    if (key.equals(BREADTH_FIRST)) {
+      return this.breadthFirst(source, target);
+    }
+    else if (key.equals(DEPTH_FIRST)) {
+      return this.depthFirst(source, target);
+    }
+    else if (key.equals(A_STAR)) {
+      return this.aStar(source, target);
+    }
+    else if (key.equals(TWO_WAY)) {
+      return this.twoWay(source, target);
+    }
+    else if (key.equals(DEAD_END_FILL)) {
+      return this.deadEndFill(source, target);
+    }
+    else {
+      throw new IllegalArgumentException("Unknown search: " + key);
+    }
+  }
+
+  // searches from the source to the target with the search of the given
+  // key, and returns what it did, copied out so the next search can't
+  // change it
+  SearchTrace trace(String key, int source, int target) {
+    this.solve(key, source, target);
+    return SearchTrace.copy(this.seen, this.seenCount, this.path, this.pathCount);
+  }
+
+  // searches from the source to the target breadth first, returns whether
+  // the target was found
+  boolean breadthFirst(int source, int target) {
+    this.reset(source);
+    int head = 0;
+    int tail = 0;
+    this.frontier[tail++] = source;
+
+    while (head < tail) {
+      int next = this.frontier[head++];
+      if (next == target) {
+        this.reconstruct(next);
+        return true;
+      }
+      int count = this.grid.neighbors(next, this.neighbors);
+      for (int i = 0; i < count; i++) {
+        int cell = this.neighbors[i];
+        if (!this.isVisited(cell)) {
+          this.visit(cell, next);
+          this.frontier[tail++] = cell;
+          this.seen[this.seenCount++] = next;
+        }
+      }
+    }
+    return false;
+  }
+
+  // searches from the source to the target depth first, returns whether the
+  // target was found
+  boolean depthFirst(int source, int target) {
+    this.reset(source);
+    int top = 0;
+    this.frontier[top++] = source;
+
+    while (top > 0) {
+      int next = this.frontier[--top];
+      if (next == target) {
+        this.reconstruct(next);
+        return true;
+      }
+      int count = this.grid.neighbors(next, this.neighbors);
+      for (int i = 0; i < count; i++) {
+        int cell = this.neighbors[i];
+        if (!this.isVisited(cell)) {
+          this.visit(cell, next);
+          this.frontier[top++] = cell;
+          this.seen[this.seenCount++] = next;
+        }
+      }
+    }
+    return false;
+  }
+
+  // searches from the source to the target with a*, always going on from
+  // the cell whose steps so far plus manhattan distance to the target is
+  // smallest, so it heads for the target and only turns back at dead ends
+  // a cell can go on the heap again if a shorter way to it turns up, which
+  // only happens in mazes with loops, and the old entry is skipped
+  boolean aStar(int source, int target) {
+    this.makeExtras();
+    this.reset(source);
+    this.open.clear();
+    this.distance[source] = 0;
+    this.open.push((long) this.manhattan(source, target) << 32 | source);
+
+    while (!this.open.isEmpty()) {
+      long key = this.open.pop();
+      int next = (int) key;
+      if ((int) (key >>> 32) != this.distance[next] + this.manhattan(next, target)) {
+        continue;
+      }
+      if (next == target) {
+        this.reconstruct(next);
+        return true;
+      }
+      this.seen[this.seenCount++] = next;
+      int count = this.grid.neighbors(next, this.neighbors);
+      for (int i = 0; i < count; i++) {
+        int cell = this.neighbors[i];
+        int steps = this.distance[next] + 1;
+        if (!this.isVisited(cell) || steps < this.distance[cell]) {
+          this.visit(cell, next);
+          this.distance[cell] = steps;
+          this.open.push((long) (steps + this.manhattan(cell, target)) << 32 | cell);
+        }
+      }
+    }
+    return false;
+  }
+
+  // the number of steps between the two cells if there were no walls
+  int manhattan(int cell1, int cell2) {
+    return Math.abs(this.grid.x(cell1) - this.grid.x(cell2))
+        + Math.abs(this.grid.y(cell1) - this.grid.y(cell2));
+  }
+
+  // searches breadth first from the source and from the target at once, a
+  // whole level at a time from whichever side has the smaller frontier,
+  // until the two meet
+  // the level where they meet is finished before stopping, and the meeting
+  // cell that makes the shortest path is kept
+  boolean twoWay(int source, int target) {
+    this.makeExtras();
+    this.reset(source);
+    Arrays.fill(this.backVisited, 0L);
+    this.backVisited[target >> 6] |= 1L << target;
+    this.backParent[target] = target;
+    this.distance[source] = 0;
+    this.distance[target] = 0;
+    if (source == target) {
+      this.reconstruct(source);
+      return true;
+    }
+
+    int head = 0;
+    int tail = 0;
+    this.frontier[tail++] = source;
+    int backHead = 0;
+    int backTail = 0;
+    this.backFrontier[backTail++] = target;
+    int meet = -1;
+    int best = Integer.MAX_VALUE;
+
+    while (meet < 0 && head < tail && backHead < backTail) {
+      boolean forward = tail - head <= backTail - backHead;
+      int[] queue = forward ? this.frontier : this.backFrontier;
+      long[] mine = forward ? this.visited : this.backVisited;
+      long[] theirs = forward ? this.backVisited : this.visited;
+      int[] parents = forward ? this.parent : this.backParent;
+      int first = forward ? head : backHead;
+      int end = forward ? tail : backTail;
+      int added = end;
+
+      for (int at = first; at < end; at++) {
+        int next = queue[at];
+        this.seen[this.seenCount++] = next;
+        int count = this.grid.neighbors(next, this.neighbors);
+        for (int i = 0; i < count; i++) {
+          int cell = this.neighbors[i];
+          if ((mine[cell >> 6] & (1L << cell)) != 0) {
+            continue;
+          }
+          if ((theirs[cell >> 6] & (1L << cell)) != 0) {
+            int length = this.distance[next] + 1 + this.distance[cell];
+            if (length < best) {
+              best = length;
+              meet = cell;
+              parents[cell] = next;
+            }
+            continue;
+          }
+          mine[cell >> 6] |= 1L << cell;
+          parents[cell] = next;
+          this.distance[cell] = this.distance[next] + 1;
+          queue[added++] = cell;
+        }
+      }
+      if (forward) {
+        head = end;
+        tail = added;
+      }
+      else {
+        backHead = end;
+        backTail = added;
+      }
+    }
+    if (meet < 0) {
+      return false;
+    }
+    this.joinPaths(meet);
+    return true;
+  }
+
+  // makes the path through the given cell, where the two searches met
+  // one side reached the cell first and the other set its parent there when
+  // they met, so the cell has a parent on both sides
+  void joinPaths(int meet) {
+    this.reconstruct(meet);
+    int backCount = 0;
+    for (int cell = meet; this.backParent[cell] != cell; cell = this.backParent[cell]) {
+      backCount += 1;
+    }
+    System.arraycopy(this.path, 0, this.path, backCount, this.pathCount);
+    int at = backCount - 1;
+    for (int cell = meet; this.backParent[cell] != cell; cell = this.backParent[cell]) {
+      this.path[at] = this.backParent[cell];
+      at -= 1;
+    }
+    this.pathCount += backCount;
+  }
+
+  // fills in every dead end other than the source and the target, and every
+  // cell that becomes a dead end once its neighbors are filled, until only
+  // the cells on the way from the source to the target are left, then
+  // follows those
+  // seen holds the cells filled in, in order, then the cells followed
+  boolean deadEndFill(int source, int target) {
+    this.makeExtras();
+    this.reset(source);
+    int tail = 0;
+    for (int cell = 0; cell < this.grid.cells(); cell++) {
+      this.degree[cell] = (byte) this.grid.neighbors(cell, this.neighbors);
+      if (this.degree[cell] <= 1 && cell != source && cell != target) {
+        this.frontier[tail++] = cell;
+      }
+    }
+    for (int head = 0; head < tail; head++) {
+      int next = this.frontier[head];
+      this.degree[next] = -1;
+      this.seen[this.seenCount++] = next;
+      int count = this.grid.neighbors(next, this.neighbors);
+      for (int i = 0; i < count; i++) {
+        int cell = this.neighbors[i];
+        if (this.degree[cell] > 0) {
+          this.degree[cell] -= 1;
+          if (this.degree[cell] == 1 && cell != source && cell != target) {
+            this.frontier[tail++] = cell;
+          }
+        }
+      }
+    }
+
+    // what is left is the way through, follow it breadth first
+    int head = 0;
+    tail = 0;
+    this.frontier[tail++] = source;
+    while (head < tail) {
+      int next = this.frontier[head++];
+      if (next == target) {
+        this.reconstruct(next);
+        return true;
+      }
+      this.seen[this.seenCount++] = next;
+      int count = this.grid.neighbors(next, this.neighbors);
+      for (int i = 0; i < count; i++) {
+        int cell = this.neighbors[i];
+        if (this.degree[cell] >= 0 && !this.isVisited(cell)) {
+          this.visit(cell, next);
+          this.frontier[tail++] = cell;
+        }
+      }
+    }
+    return false;
+  }
+
+  // forgets the last search and marks the source as visited
+  void reset(int source) {
+    Arrays.fill(this.visited, 0L);
+    this.seenCount = 0;
+    this.pathCount = 0;
+    this.visit(source, source);
+  }
+
+  // has the given cell gone into the frontier?
+  boolean isVisited(int cell) {
+    return (this.visited[cell >> 6] & (1L << cell)) != 0;
+  }
+
+  // marks the given cell as visited, reached from the given parent
+  void visit(int cell, int from) {
+    this.visited[cell >> 6] |= 1L << cell;
+    this.parent[cell] = from;
+  }
+
+  // reconstructs the path from the given cell back to the cell the search
+  // started from
+  void reconstruct(int next) {
+    this.pathCount = 0;
+    this.path[this.pathCount++] = next;
+    while (this.parent[next] != next) {
+      next = this.parent[next];
+      this.path[this.pathCount++] = next;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package maze;
+
+// an index over a perfect maze, where there is exactly one path between any
+// two cells, so the maze is a tree: hung from the first cell, every cell
+// knows its parent and depth, and the ancestors 1, 2, 4, 8... steps up
+// the path between two cells goes up from both to their lowest common
+// ancestor, which binary lifting finds in O(log n) steps, so distances come
+// without a search and paths in time proportional to their length
+// the index only reads the grid, so any number of threads can query it at
+// once, and it must be built again if walls change
+class MazeTree {
+  MazeGrid grid;
+  // the cell every cell hangs from, the root hangs from itself
+  int[] parent;
+  int[] depth;
+  // the cells in the order the index reached them, every cell after its
+  // parent
+  int[] order;
+  // how many ancestors each cell keeps, and the ancestor 2^k steps up of
+  // each cell at up[cell * levels + k], stopping at the root
+  // a cell's ancestors sit side by side, so the search for the common
+  // ancestor stays in one cache line until it jumps
+  int levels;
+  int[] up;
+
+  // the constructor, indexes the maze from its first cell
+  // a maze with loops has more than one path between some cells, and the
+  // tree would only know one of them, so it isn't indexed
+  MazeTree(MazeGrid grid) {
+    if (grid.openEdges() >= grid.cells()) {
+      throw new IllegalArgumentException("A maze with loops has no tree index");
+    }
+    this.grid = grid;
+    int cells = grid.cells();
+    this.parent = new int[cells];
+    this.depth = new int[cells];
+    this.order = new int[cells];
+    this.hang(0);
+
+    int deepest = 0;
+    for (int cell = 0; cell < cells; cell++) {
+      deepest = Math.max(deepest, this.depth[cell]);
+    }
+    this.levels = Math.max(1, 32 - Integer.numberOfLeadingZeros(deepest));
+    this.up = new int[this.levels * cells];
+    // in order, so every ancestor is done before the cells below it
+    for (int cell : this.order) {
+      int at = cell * this.levels;
+      this.up[at] = this.parent[cell];
+      for (int k = 1; k < this.levels; k++) {
+        this.up[at + k] = this.up[this.up[at + k - 1] * this.levels + k - 1];
+      }
+    }
+  }
+
+  // walks the maze breadth first from the root, setting every cell's
+  // parent and depth
+  void hang(int root) {
+    int[] neighbors = new int[4];
+    boolean[] reached = new boolean[this.grid.cells()];
+    int tail = 0;
+    this.order[tail++] = root;
+    this.parent[root] = root;
+    reached[root] = true;
+    for (int head = 0; head < tail; head++) {
+      int next = this.order[head];
+      int count = this.grid.neighbors(next, neighbors);
+      for (int i = 0; i < count; i++) {
+        int cell = neighbors[i];
+        if (!reached[cell]) {
+          reached[cell] = true;
+          this.parent[cell] = next;
+          this.depth[cell] = this.depth[next] + 1;
+          this.order[tail++] = cell;
+        }
+      }
+    }
+    if (tail != this.grid.cells()) {
+      throw new IllegalArgumentException("Not every cell can be reached");
+    }
+  }
+
+  // the ancestor the given number of steps up from the given cell
+  int ancestor(int cell, int steps) {
+    for (int k = 0; steps > 0; k++) {
+      if ((steps & 1) != 0) {
+        cell = this.up[cell * this.levels + k];
+      }
+      steps >>= 1;
+    }
+    return cell;
+  }
+
+  // the lowest cell both given cells hang from
+  int commonAncestor(int cell1, int cell2) {
+    if (this.depth[cell1] < this.depth[cell2]) {
+      int swap = cell1;
+      cell1 = cell2;
+      cell2 = swap;
+    }
+    cell1 = this.ancestor(cell1, this.depth[cell1] - this.depth[cell2]);
+    if (cell1 == cell2) {
+      return cell1;
+    }
+    for (int k = this.levels - 1; k >= 0; k--) {
+      int up1 = this.up[cell1 * this.levels + k];
+      int up2 = this.up[cell2 * this.levels + k];
+      if (up1 != up2) {
+        cell1 = up1;
+        cell2 = up2;
+      }
+    }
+    return this.parent[cell1];
+  }
+
+  // the number of steps on the path between the two given cells
+  int distance(int source, int target) {
+    int top = this.commonAncestor(source, target);
+    return this.depth[source] + this.depth[target] - 2 * this.depth[top];
+  }
+
+  // writes the cells of the path from the source to the target into out,
+  // which must have room for them, and returns how many there are
+  int path(int source, int target, int[] out) {
+    int top = this.commonAncestor(source, target);
+    int length = this.depth[source] + this.depth[target] - 2 * this.depth[top] + 1;
+    int at = 0;
+    for (int cell = source; cell != top; cell = this.parent[cell]) {
+      out[at++] = cell;
+    }
+    out[at] = top;
+    at = length - 1;
+    for (int cell = target; cell != top; cell = this.parent[cell]) {
+      out[at--] = cell;
+    }
+    return length;
+  }
+
+  // the cells of the path from the source to the target
+  int[] path(int source, int target) {
+    int[] out = new int[this.distance(source, target) + 1];
+    this.path(source, target, out);
+    return out;
+  }
+}
@@ -0,0 +1,132 @@
+package maze;
+
+import java.util.ArrayList;
+
+// a bounded cache of what was found for pairs of cells, paths or their
+// distances, which drops the entry used longest ago once it is full
+// a pair has no direction: the source and the target share an entry either
+// way round, so a value with a direction, like a path, is kept going from
+// the lower cell to the higher
+// it is split into up to 16 segments, independent LRU caches each a
+// LinkedHashMap in access order behind its own lock, so threads looking up
+// different pairs seldom wait on each other, and each segment counts its own
+// hits, misses and evictions under that lock
+// a segment drops the entry used longest ago in that segment, which is only
+// close to the one used longest ago in the whole cache
+// the values are shared with whoever asks for them, so nobody may change them
+class PathCache<V> {
+  // how many segments a cache has at most
+  static final int SEGMENTS = 16;
+
+  int capacity;
+  ArrayList<CacheSegment<V>> segments;
+
+  // the constructor, for a cache of at most the given number of entries
+  PathCache(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("A cache can't hold a negative number of entries");
+    }
+    this.capacity = capacity;
+    int count = Math.max(1, Math.min(SEGMENTS, capacity));
+    this.segments = new ArrayList<CacheSegment<V>>(count);
+    for (int i = 0; i < count; i++) {
+      // the first capacity % count segments get one more entry each
+      this.segments.add(new CacheSegment<V>(capacity / count + (i < capacity % count ? 1 : 0)));
+    }
+  }
+
+  // the key of the pair of the given cells, the same either way round
+  static long key(int source, int target) {
+    int low = Math.min(source, target);
+    int high = Math.max(source, target);
+    return ((long) low << 32) | (high & 0xFFFFFFFFL);
+  }
+
+  // the segment that holds the given key, picked by the high bits of the key
+  // mixed, so pairs of neighboring cells spread over every segment
+  CacheSegment<V> segmentFor(long key) {
+    long mixed = key * 0x9E3779B97F4A7C15L;
+    return this.segments.get((int) ((mixed >>> 32) % this.segments.size()));
+  }
+
+  // what was found for the source and the target if it is cached, null if
+  // not
+  V get(int source, int target) {
+    long key = key(source, target);
+    CacheSegment<V> segment = this.segmentFor(key);
+    synchronized (segment) {
+      V value = segment.get(key);
+      if (value == null) {
+        segment.misses += 1;
+      }
+      else {
+        segment.hits += 1;
+      }
+      return value;
+    }
+  }
+
+  // caches what was found for the source and the target, dropping the entry
+  // used longest ago in its segment if the segment is full
+  void put(int source, int target, V value) {
+    long key = key(source, target);
+    CacheSegment<V> segment = this.segmentFor(key);
+    synchronized (segment) {
+      if (segment.capacity > 0) {
+        segment.put(key, value);
+      }
+    }
+  }
+
+  // how many lookups found their entry
+  long hits() {
+    long total = 0;
+    for (CacheSegment<V> segment : this.segments) {
+      synchronized (segment) {
+        total += segment.hits;
+      }
+    }
+    return total;
+  }
+
+  // how many lookups didn't find their entry
+  long misses() {
+    long total = 0;
+    for (CacheSegment<V> segment : this.segments) {
+      synchronized (segment) {
+        total += segment.misses;
+      }
+    }
+    return total;
+  }
+
+  // how many entries were dropped to make room for others
+  long evictions() {
+    long total = 0;
+    for (CacheSegment<V> segment : this.segments) {
+      synchronized (segment) {
+        total += segment.evictions;
+      }
+    }
+    return total;
+  }
+
+  // how many entries are cached now
+  int size() {
+    int total = 0;
+    for (CacheSegment<V> segment : this.segments) {
+      synchronized (segment) {
+        total += segment.size();
+      }
+    }
+    return total;
+  }
+
+  // the hit rate in percent, with its counts
+  String stats() {
+    long hits = this.hits();
+    long lookups = Math.max(1, hits + this.misses());
+    return "cache " + this.capacity + ": hits " + hits + ", misses " + this.misses()
+        + ", evictions " + this.evictions() + ", hit rate " + hits * 100 / lookups + "%";
+  }
+}
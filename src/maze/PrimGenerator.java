@@ -0,0 +1,43 @@
+package maze;
+
+// prim's algo: grows the maze out from one random cell, always knocking
+// down the lightest wall between the maze and a cell not yet in it
+// each wall gets a random weight when it first touches the maze, and the
+// walls waiting are packed weight and edge id into a LongHeap, so it makes
+// the same kind of maze as kruskal's, with lots of short dead ends
+class PrimGenerator implements MazeGenerator {
+  public void generate(Maze maze) {
+    MazeGrid grid = maze.grid;
+    boolean[] inMaze = new boolean[grid.cells()];
+    // every wall goes in at most once, when the first of its cells joins
+    LongHeap walls = new LongHeap(grid.edgeSlots());
+    int[] around = new int[4];
+
+    int start = maze.random.nextInt(grid.cells());
+    this.add(maze, start, inMaze, walls, around);
+
+    while (!walls.isEmpty()) {
+      int edge = (int) walls.pop();
+      int from = grid.edgeFrom(edge);
+      int to = grid.edgeTo(edge);
+      int next = inMaze[from] ? to : from;
+      if (!inMaze[next]) {
+        grid.carve(edge);
+        this.add(maze, next, inMaze, walls, around);
+      }
+    }
+  }
+
+  // puts the given cell in the maze, and the walls to its neighbors that
+  // aren't in the maze yet on the heap
+  void add(Maze maze, int cell, boolean[] inMaze, LongHeap walls, int[] around) {
+    inMaze[cell] = true;
+    int count = maze.grid.adjacent(cell, around);
+    for (int i = 0; i < count; i++) {
+      if (!inMaze[around[i]]) {
+        walls.push(maze.edgeKey(maze.random.nextInt(Maze.MAX_WEIGHT),
+            maze.grid.edgeBetween(cell, around[i])));
+      }
+    }
+  }
+}
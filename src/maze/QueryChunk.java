@@ -0,0 +1,46 @@
+package maze;
+
+import java.util.concurrent.Callable;
+
+// a run of consecutive queries of a batch, answered on one thread
+// every chunk writes only its own part of the answers, so chunks running at
+// the same time share nothing but the caches, which lock for themselves
+class QueryChunk implements Callable<QueryChunk> {
+  MazeQueries queries;
+  // the tree every query of the batch is answered on, with its caches
+  CachedTree on;
+  int[] sources;
+  int[] targets;
+  // the answers go into paths if it isn't null, and into distances if it is
+  int[] distances;
+  int[][] paths;
+  // the queries of this chunk are first up to but not including last
+  int first;
+  int last;
+
+  // the constructor
+  QueryChunk(MazeQueries queries, CachedTree on, int[] sources, int[] targets, int[] distances,
+      int[][] paths, int first, int last) {
+    this.queries = queries;
+    this.on = on;
+    this.sources = sources;
+    this.targets = targets;
+    this.distances = distances;
+    this.paths = paths;
+    this.first = first;
+    this.last = last;
+  }
+
+  // answers the queries of this chunk
+  public QueryChunk call() {
+    for (int i = this.first; i < this.last; i++) {
+      if (this.paths != null) {
+        this.paths[i] = this.queries.path(this.on, this.sources[i], this.targets[i]);
+      }
+      else {
+        this.distances[i] = this.queries.distance(this.on, this.sources[i], this.targets[i]);
+      }
+    }
+    return this;
+  }
+}
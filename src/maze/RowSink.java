@@ -0,0 +1,11 @@
+package maze;
+
+// takes the rows of a maze one at a time, top to bottom, as a generator
+// makes them, each row an array of MazeGrid.EAST and MazeGrid.SOUTH bits
+interface RowSink {
+  // takes the given row, the array is reused for the next row
+  void row(int y, byte[] open);
+
+  // the last row has been given
+  void end();
+}
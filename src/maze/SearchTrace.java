@@ -0,0 +1,43 @@
+package maze;
+
+import java.util.Arrays;
+
+// what one search of a maze did: the cells it looked at, in order, and the
+// path it found from the target back to the source, empty if there is none
+// it never changes once made, so it can be kept and replayed any number of
+// times without searching again
+// replayed, the steps are every cell seen and then every cell of the path
+class SearchTrace {
+  // the trace of no search at all
+  static final SearchTrace NONE = new SearchTrace(new int[0], new int[0]);
+
+  int[] seen;
+  int[] path;
+
+  // the constructor
+  SearchTrace(int[] seen, int[] path) {
+    this.seen = seen;
+    this.path = path;
+  }
+
+  // the trace of the given counts of cells seen and of the path, copied from
+  // the given arrays, which the search goes on to reuse
+  static SearchTrace copy(int[] seen, int seenCount, int[] path, int pathCount) {
+    return new SearchTrace(Arrays.copyOf(seen, seenCount), Arrays.copyOf(path, pathCount));
+  }
+
+  // the number of steps of the replay
+  int steps() {
+    return this.seen.length + this.path.length;
+  }
+
+  // the cell shown at the given step
+  int cell(int step) {
+    return step < this.seen.length ? this.seen[step] : this.path[step - this.seen.length];
+  }
+
+  // is the given step a cell of the path?
+  boolean onPath(int step) {
+    return step >= this.seen.length;
+  }
+}
@@ -0,0 +1,25 @@
+package maze;
+
+// goes along each row knocking down east walls, and at random closes the
+// run of cells so far by knocking down the north wall of one cell of it
+// the first row is one corridor, since it has nothing to the north
+class SidewinderGenerator implements MazeGenerator {
+  public void generate(Maze maze) {
+    MazeGrid grid = maze.grid;
+    for (int y = 0; y < grid.height; y++) {
+      int runStart = grid.id(0, y);
+      for (int x = 0; x < grid.width; x++) {
+        int cell = grid.id(x, y);
+        boolean last = x == grid.width - 1;
+        if (y > 0 && (last || maze.random.nextBoolean())) {
+          int pick = runStart + maze.random.nextInt(cell - runStart + 1);
+          grid.carve(grid.southEdge(pick - grid.width));
+          runStart = cell + 1;
+        }
+        else if (!last) {
+          grid.carve(grid.eastEdge(cell));
+        }
+      }
+    }
+  }
+}
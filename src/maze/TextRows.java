@@ -0,0 +1,55 @@
+package maze;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+// writes every row as text, the same text MazeGrid.text gives, without
+// keeping any row after it is written
+class TextRows implements RowSink {
+  Writer out;
+  StringBuilder line;
+
+  // the constructor
+  TextRows(Writer out) {
+    this.out = out;
+    this.line = new StringBuilder();
+  }
+
+  // writes the top wall before the first row, then the cells of the row and
+  // the walls under it
+  public void row(int y, byte[] open) {
+    this.line.setLength(0);
+    if (y == 0) {
+      this.line.append('+');
+      for (int x = 0; x < open.length; x++) {
+        this.line.append("--+");
+      }
+      this.line.append('\n');
+    }
+    this.line.append('|');
+    for (int x = 0; x < open.length; x++) {
+      this.line.append((open[x] & MazeGrid.EAST) != 0 ? "   " : "  |");
+    }
+    this.line.append("\n+");
+    for (int x = 0; x < open.length; x++) {
+      this.line.append((open[x] & MazeGrid.SOUTH) != 0 ? "  +" : "--+");
+    }
+    this.line.append('\n');
+    try {
+      this.out.append(this.line);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public void end() {
+    try {
+      this.out.flush();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
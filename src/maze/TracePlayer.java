@@ -0,0 +1,36 @@
+package maze;
+
+// replays a search trace a given number of steps a tick, so a big maze
+// shows its search in the same time as a small one
+// it only counts the steps shown so far, the trace and the maze are never
+// changed, so the same trace can be replayed again from the start
+class TracePlayer {
+  SearchTrace trace;
+  // the steps shown each tick, at least 1
+  int speed;
+  // the steps shown so far
+  int shown;
+
+  // the constructor, nothing is shown yet
+  TracePlayer(SearchTrace trace, int speed) {
+    if (speed < 1) {
+      throw new IllegalArgumentException("The speed must be at least 1 step a tick");
+    }
+    this.trace = trace;
+    this.speed = speed;
+    this.shown = 0;
+  }
+
+  // shows the steps of the next tick, and returns the first of them, so
+  // the steps from it up to shown are the new ones
+  int advance() {
+    int from = this.shown;
+    this.shown = Math.min(this.trace.steps(), this.shown + this.speed);
+    return from;
+  }
+
+  // has every step been shown?
+  boolean isDone() {
+    return this.shown == this.trace.steps();
+  }
+}
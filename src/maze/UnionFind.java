@@ -0,0 +1,57 @@
+package maze;
+
+// represents disjoint sets of the cells of a maze, used by kruskal's algo to
+// know if two cells are already connected
+// find halves the path as it walks it and union hangs the shorter tree under
+// the taller one, so no find ever walks more than a few steps
+class UnionFind {
+  int[] parent;
+  int[] rank;
+  int sets;
+
+  // the constructor, every cell starts as its own representative
+  UnionFind(int size) {
+    this.parent = new int[size];
+    this.rank = new int[size];
+    this.sets = size;
+    for (int cell = 0; cell < size; cell++) {
+      this.parent[cell] = cell;
+    }
+  }
+
+  // finds the representative cell of the given cell
+  int find(int cell) {
+    while (this.parent[cell] != cell) {
+      this.parent[cell] = this.parent[this.parent[cell]];
+      cell = this.parent[cell];
+    }
+    return cell;
+  }
+
+  // joins the sets of the two given cells, returns false if they were
+  // already in the same set
+  boolean union(int cell1, int cell2) {
+    int root1 = this.find(cell1);
+    int root2 = this.find(cell2);
+    if (root1 == root2) {
+      return false;
+    }
+    if (this.rank[root1] < this.rank[root2]) {
+      this.parent[root1] = root2;
+    }
+    else if (this.rank[root1] > this.rank[root2]) {
+      this.parent[root2] = root1;
+    }
+    else {
+      this.parent[root2] = root1;
+      this.rank[root1] += 1;
+    }
+    this.sets -= 1;
+    return true;
+  }
+
+  // are the two given cells in the same set?
+  boolean connected(int cell1, int cell2) {
+    return this.find(cell1) == this.find(cell2);
+  }
+}
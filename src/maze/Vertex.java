@@ -0,0 +1,108 @@
+package maze;
+
+import java.util.ArrayList;
+import javalib.worldimages.*;
+
+//to represent a vertex
+class Vertex {
+
+  Posn location;
+
+  ArrayList<Edge> outer;
+
+  boolean isSearch;
+  boolean isCorrect;
+
+  // the constructor
+  Vertex(Posn location, ArrayList<Edge> outer) {
+    this.location = location;
+    this.outer = outer;
+    this.isSearch = false;
+    this.isCorrect = false;
+  }
+
+  // overrides the equals method to determine if the given vertex is equal to this
+  // vertex, two vertices at the same location are the same cell of the maze
+  public boolean equals(Object object) {
+    if (!(object instanceof Vertex)) {
+      return false;
+    }
+    Vertex other = (Vertex) object;
+    return this.location.x == other.location.x && this.location.y == other.location.y;
+  }
+
+  // overrides hashcode method, only the location decides it so a vertex keeps
+  // its hashcode while edges are added to it
+  public int hashCode() {
+    return this.location.x * 92821 + this.location.y;
+  }
+
+  // draws a cell of a vertex in the search pathway
+  WorldImage drawSearch() {
+    if (this.isSearch) {
+      return MazeCanvas.SEEN_CELL;
+    }
+    else {
+      return MazeCanvas.NOTHING;
+    }
+  }
+
+  // draws a cell of a vertex in the reconstructed pathway in the last quarter
+  WorldImage drawCorrect1() {
+    if (this.isCorrect) {
+      return MazeCanvas.PATH_CELLS[0];
+    }
+    else {
+      return MazeCanvas.NOTHING;
+    }
+  }
+
+  // draws a cell of a vertex in the reconstructed pathway in between the last
+  // half and last quarter
+  WorldImage drawCorrect2() {
+    if (this.isCorrect) {
+      return MazeCanvas.PATH_CELLS[1];
+    }
+    else {
+      return MazeCanvas.NOTHING;
+    }
+  }
+
+  // draws a cell of a vertex in the reconstructed pathway in between the first
+  // half and first quarter
+  WorldImage drawCorrect3() {
+    if (this.isCorrect) {
+      return MazeCanvas.PATH_CELLS[2];
+    }
+    else {
+      return MazeCanvas.NOTHING;
+    }
+  }
+
+  // draws a cell of a vertex in the reconstructed pathway in the first quarter
+  WorldImage drawCorrect4() {
+    if (this.isCorrect) {
+      return MazeCanvas.PATH_CELLS[3];
+    }
+    else {
+      return MazeCanvas.NOTHING;
+    }
+  }
+
+  // draws a cell of a vertex in the reconstructed pathway, in the color of
+  // the given quarter of the path
+  WorldImage drawCorrect(int band) {
+    if (this.isCorrect) {
+      return MazeCanvas.PATH_CELLS[band];
+    }
+    else {
+      return MazeCanvas.NOTHING;
+    }
+  }
+
+  // draw a cell
+  WorldImage drawCellVertex() {
+    return MazeCanvas.FLOOR_CELL;
+  }
+
+}
@@ -0,0 +1,33 @@
+package maze;
+
+// wilson's algo: from each cell not yet in the maze, walks at random until
+// it reaches the maze, then knocks down the walls along the walk with its
+// loops taken out
+// the walk only remembers the last way it left each cell, which takes the
+// loops out for free, and like aldous-broder's it picks every possible maze
+// with the same chance
+class WilsonGenerator implements MazeGenerator {
+  public void generate(Maze maze) {
+    MazeGrid grid = maze.grid;
+    boolean[] inMaze = new boolean[grid.cells()];
+    // the cell the walk last went to from each cell
+    int[] next = new int[grid.cells()];
+    int[] around = new int[4];
+
+    inMaze[maze.random.nextInt(grid.cells())] = true;
+    for (int start = 0; start < grid.cells(); start++) {
+      int cell = start;
+      while (!inMaze[cell]) {
+        int count = grid.adjacent(cell, around);
+        next[cell] = around[maze.random.nextInt(count)];
+        cell = next[cell];
+      }
+      cell = start;
+      while (!inMaze[cell]) {
+        inMaze[cell] = true;
+        grid.carve(grid.edgeBetween(cell, next[cell]));
+        cell = next[cell];
+      }
+    }
+  }
+}
@@ -0,0 +1,2574 @@
+package maze;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.*;
+import tester.*;
+import javalib.impworld.*;
+import java.awt.Color;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import javax.imageio.ImageIO;
+import javalib.worldimages.*;
+
+//tests and examples
+class ExamplesMaze {
+
+  // opens the game, skipped on machines without a display
+  void testMazeGame(Tester t) {
+    if (GraphicsEnvironment.isHeadless()) {
+      return;
+    }
+    MazeGame game = new MazeGame(20, 20);
+    game.bigBang(1500, 900, .05);
+  }
+
+  MazeGame mazeGame;
+  Vertex a;
+  Vertex b;
+  Vertex c;
+  Vertex d;
+  Vertex e;
+  Vertex f;
+
+  Edge aToB;
+  Edge aToE;
+  Edge bToF;
+  Edge bToC;
+  Edge bToE;
+  Edge eToC;
+  Edge cToD;
+  Edge fToD;
+
+  long[] listEdge;
+
+  // initData
+  void initData() {
+    mazeGame = new MazeGame(40, 40);
+
+    a = new Vertex(new Posn(0, 0), new ArrayList<Edge>());
+    b = new Vertex(new Posn(0, 1), new ArrayList<Edge>());
+    c = new Vertex(new Posn(0, 2), new ArrayList<Edge>());
+    d = new Vertex(new Posn(1, 0), new ArrayList<Edge>());
+    e = new Vertex(new Posn(1, 1), new ArrayList<Edge>());
+    f = new Vertex(new Posn(1, 2), new ArrayList<Edge>());
+
+    aToB = new Edge(this.a, this.b, 30);
+    aToE = new Edge(this.a, this.e, 50);
+    bToF = new Edge(this.b, this.f, 50);
+    bToC = new Edge(this.b, this.c, 40);
+    bToE = new Edge(this.b, this.e, 35);
+    eToC = new Edge(this.e, this.c, 15);
+    cToD = new Edge(this.c, this.d, 25);
+    fToD = new Edge(this.f, this.d, 50);
+
+    // the example edges packed with their weights, by edge id
+    listEdge = new long[] { mazeGame.maze.edgeKey(30, 0), mazeGame.maze.edgeKey(50, 1),
+        mazeGame.maze.edgeKey(50, 2), mazeGame.maze.edgeKey(40, 3), mazeGame.maze.edgeKey(35, 4),
+        mazeGame.maze.edgeKey(15, 5), mazeGame.maze.edgeKey(25, 6), mazeGame.maze.edgeKey(50, 7) };
+
+  }
+
+  // tests the drawSearch method
+  void testDrawSearch(Tester t) {
+    initData();
+
+    // testing drawSearch() on vertices where isSearch is false
+    t.checkExpect(this.a.drawSearch(), new EmptyImage());
+
+    // change's vertices isSearch to true
+    this.a.isSearch = true;
+
+    // testing drawSearch() on vertices where isSearch is true
+    t.checkExpect(this.a.drawSearch(),
+        new RectangleImage(9, 9, OutlineMode.SOLID, new Color(173, 216, 230)));
+  }
+
+  // tests the drawCorrect1 method
+  void testDrawCorrect1(Tester t) {
+    initData();
+
+    // testing drawCorrect() on vertices where isCorrect is false
+    t.checkExpect(this.a.drawCorrect1(), new EmptyImage());
+
+    // change's vertices isCorrect to true
+    this.a.isCorrect = true;
+
+    // testing drawCorrect() on vertices where isSearch is true
+    t.checkExpect(this.a.drawCorrect1(),
+        new RectangleImage(9, 9, OutlineMode.SOLID, new Color(0, 0, 139)));
+  }
+
+  // tests the drawCorrect2 method
+  void testDrawCorrect2(Tester t) {
+    initData();
+
+    // testing drawCorrect() on vertices where isCorrect is false
+    t.checkExpect(this.a.drawCorrect2(), new EmptyImage());
+
+    // change's vertices isCorrect to true
+    this.a.isCorrect = true;
+
+    // testing drawCorrect() on vertices where isSearch is true
+    t.checkExpect(this.a.drawCorrect2(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.GREEN));
+  }
+
+  // tests the drawCorrect3 method
+  void testDrawCorrect3(Tester t) {
+    initData();
+
+    // testing drawCorrect() on vertices where isCorrect is false
+    t.checkExpect(this.a.drawCorrect3(), new EmptyImage());
+
+    // change's vertices isCorrect to true
+    this.a.isCorrect = true;
+
+    // testing drawCorrect() on vertices where isSearch is true
+    t.checkExpect(this.a.drawCorrect3(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.ORANGE));
+  }
+
+  // tests the drawCorrect4 method
+  void testDrawCorrect4(Tester t) {
+    initData();
+
+    // testing drawCorrect() on vertices where isCorrect is false
+    t.checkExpect(this.a.drawCorrect4(), new EmptyImage());
+
+    // change's vertices isCorrect to true
+    this.a.isCorrect = true;
+
+    // testing drawCorrect() on vertices where isSearch is true
+    t.checkExpect(this.a.drawCorrect4(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.RED));
+  }
+
+  // tests onKeyEvent method
+  void testOnKeyEvent(Tester t) {
+    initData();
+    this.mazeGame.onKeyEvent("b");
+    t.checkExpect(this.mazeGame.seenVertices().size() > 0, true);
+    t.checkExpect(this.mazeGame.pathVertices().size() > 0, true);
+    this.mazeGame.onKeyEvent("r");
+    t.checkExpect(this.mazeGame.seenVertices().size() == 0, true);
+    t.checkExpect(this.mazeGame.pathVertices().size() == 0, true);
+    t.checkExpect(this.mazeGame.tick == 0, true);
+    this.mazeGame.onKeyEvent("d");
+    t.checkExpect(this.mazeGame.seenVertices().size() > 0, true);
+    t.checkExpect(this.mazeGame.pathVertices().size() > 0, true);
+
+    int path = this.mazeGame.pathVertices().size();
+    this.mazeGame.onKeyEvent("a");
+    t.checkExpect(this.mazeGame.aCount, this.mazeGame.seenVertices().size());
+    t.checkExpect(this.mazeGame.wACount, this.mazeGame.aCount - path);
+    this.mazeGame.onKeyEvent("t");
+    t.checkExpect(this.mazeGame.tCount, this.mazeGame.seenVertices().size());
+    t.checkExpect(this.mazeGame.wTCount, this.mazeGame.tCount - path);
+    this.mazeGame.onKeyEvent("f");
+    t.checkExpect(this.mazeGame.fCount, this.mazeGame.seenVertices().size());
+    t.checkExpect(this.mazeGame.wFCount, this.mazeGame.fCount - path);
+    t.checkExpect(this.mazeGame.pathVertices().size(), path);
+    this.mazeGame.onKeyEvent("r");
+    t.checkExpect(this.mazeGame.aCount + this.mazeGame.tCount + this.mazeGame.fCount, 0);
+    t.checkExpect(this.mazeGame.wACount + this.mazeGame.wTCount + this.mazeGame.wFCount, 0);
+    t.checkExpect(this.mazeGame.wDCount + this.mazeGame.wBCount, 0);
+  }
+
+  // tests the solveMaze method
+  void testSolveMaze(Tester t) {
+    initData();
+    Vertex first = this.mazeGame.vertex(0);
+    Vertex last = this.mazeGame.vertex(this.mazeGame.maze.grid.cells() - 1);
+
+    this.mazeGame.solveMaze("b");
+    t.checkExpect(this.mazeGame.seenVertices().size() > 0, true);
+    t.checkExpect(this.mazeGame.seenVertices().size() < mazeGame.boardX * mazeGame.boardY, true);
+    t.checkExpect(this.mazeGame.pathVertices().get(0), last);
+    t.checkExpect(this.mazeGame.pathVertices().get(this.mazeGame.pathVertices().size() - 1), first);
+
+    this.mazeGame.solveMaze("d");
+    t.checkExpect(this.mazeGame.seenVertices().size() > 0, true);
+    t.checkExpect(this.mazeGame.seenVertices().size() < mazeGame.boardX * mazeGame.boardY, true);
+    t.checkExpect(this.mazeGame.pathVertices().get(0), last);
+    t.checkExpect(this.mazeGame.pathVertices().get(this.mazeGame.pathVertices().size() - 1), first);
+
+    // every step of the path goes through a knocked down wall
+    for (int i = 0; i < this.mazeGame.pathVertices().size() - 1; i++) {
+      Posn here = this.mazeGame.pathVertices().get(i).location;
+      Posn there = this.mazeGame.pathVertices().get(i + 1).location;
+      int cell = this.mazeGame.maze.grid.id(Math.min(here.x, there.x), Math.min(here.y, there.y));
+      int edge = here.x == there.x ? this.mazeGame.maze.grid.southEdge(cell)
+          : this.mazeGame.maze.grid.eastEdge(cell);
+      t.checkExpect(this.mazeGame.maze.grid.isOpen(edge), true);
+    }
+
+  }
+
+  // tests the reconstruct method
+  void testReconstruct(Tester t) {
+    MazeSolver solver = new MazeSolver(new MazeGrid(2, 3));
+    solver.parent = new int[] { 0, 0, 0, 1, 2, 3 };
+
+    solver.reconstruct(5);
+    t.checkExpect(solver.pathCount, 4);
+    t.checkExpect(Arrays.copyOf(solver.path, 4), new int[] { 5, 3, 1, 0 });
+
+    solver.reconstruct(0);
+    t.checkExpect(solver.pathCount, 1);
+    t.checkExpect(solver.path[0], 0);
+
+  }
+
+  // a 3x2 grid whose tree goes 0-1-2 along the top and 0-3-4-5 down and along
+  // the bottom
+  MazeGrid exampleTree() {
+    MazeGrid grid = new MazeGrid(3, 2);
+    grid.carve(0);
+    grid.carve(1);
+    grid.carve(2);
+    grid.carve(6);
+    grid.carve(8);
+    return grid;
+  }
+
+  // tests the breadthFirst method of the solver
+  void testBreadthFirst(Tester t) {
+    MazeSolver solver = new MazeSolver(this.exampleTree());
+
+    t.checkExpect(solver.breadthFirst(0, 5), true);
+    t.checkExpect(Arrays.copyOf(solver.seen, solver.seenCount), new int[] { 0, 0, 1, 3, 4 });
+    t.checkExpect(Arrays.copyOf(solver.path, solver.pathCount), new int[] { 5, 4, 3, 0 });
+
+    // solving again reuses the same arrays
+    t.checkExpect(solver.breadthFirst(2, 3), true);
+    t.checkExpect(Arrays.copyOf(solver.seen, solver.seenCount), new int[] { 2, 1, 0 });
+    t.checkExpect(Arrays.copyOf(solver.path, solver.pathCount), new int[] { 3, 0, 1, 2 });
+
+    // a cell behind a wall can't be found
+    MazeGrid walled = new MazeGrid(2, 1);
+    MazeSolver blocked = new MazeSolver(walled);
+    t.checkExpect(blocked.breadthFirst(0, 1), false);
+    t.checkExpect(blocked.pathCount, 0);
+  }
+
+  // tests the depthFirst method of the solver
+  void testDepthFirst(Tester t) {
+    MazeSolver solver = new MazeSolver(this.exampleTree());
+
+    t.checkExpect(solver.depthFirst(0, 5), true);
+    t.checkExpect(Arrays.copyOf(solver.seen, solver.seenCount), new int[] { 0, 0, 3, 4 });
+    t.checkExpect(Arrays.copyOf(solver.path, solver.pathCount), new int[] { 5, 4, 3, 0 });
+
+    t.checkExpect(solver.depthFirst(5, 2), true);
+    t.checkExpect(Arrays.copyOf(solver.seen, solver.seenCount), new int[] { 5, 4, 3, 0, 1 });
+    t.checkExpect(Arrays.copyOf(solver.path, solver.pathCount), new int[] { 2, 1, 0, 3, 4, 5 });
+
+    MazeSolver blocked = new MazeSolver(new MazeGrid(1, 2));
+    t.checkExpect(blocked.depthFirst(0, 1), false);
+    t.checkExpect(blocked.seenCount, 0);
+  }
+
+  // tests that breadth and depth first search see the cells the original
+  // solveMaze did, in the same order and as many times: a cell is added
+  // once for every way on it pushes, so a fork counts twice and a dead end
+  // not at all
+  void testSeenCells(Tester t) {
+    // 0 - 1 - 2
+    //     |   |
+    // 3 - 4   5
+    MazeGrid grid = new MazeGrid(3, 2);
+    grid.carve(grid.eastEdge(0));
+    grid.carve(grid.eastEdge(1));
+    grid.carve(grid.southEdge(1));
+    grid.carve(grid.eastEdge(3));
+    grid.carve(grid.southEdge(2));
+    MazeSolver solver = new MazeSolver(grid);
+
+    t.checkExpect(solver.trace("b", 0, 5).seen, new int[] {0, 1, 1, 2, 4});
+    t.checkExpect(this.list(solver.trace("b", 0, 5).seen), this.originalSeen(grid, "b"));
+    t.checkExpect(solver.trace("d", 0, 5).seen, new int[] {0, 1, 1, 4, 2});
+    t.checkExpect(this.list(solver.trace("d", 0, 5).seen), this.originalSeen(grid, "d"));
+
+    // the counts the game shows for the 40x40 maze are the original ones
+    Maze maze = new Maze(40, 40, 1);
+    t.checkExpect(maze.solver.trace("b", 0, 1599).seen.length, 1495);
+    t.checkExpect(this.list(maze.solver.trace("b", 0, 1599).seen),
+        this.originalSeen(maze.grid, "b"));
+    t.checkExpect(maze.solver.trace("d", 0, 1599).seen.length, 1112);
+    t.checkExpect(this.list(maze.solver.trace("d", 0, 1599).seen),
+        this.originalSeen(maze.grid, "d"));
+  }
+
+  // the given cells as a list
+  ArrayList<Integer> list(int[] cells) {
+    ArrayList<Integer> list = new ArrayList<Integer>();
+    for (int cell : cells) {
+      list.add(cell);
+    }
+    return list;
+  }
+
+  // the seen cells of the original solveMaze from the first cell to the
+  // last: a cell was added once for every neighbor it pushed, and only the
+  // neighbors not already added were pushed
+  ArrayList<Integer> originalSeen(MazeGrid grid, String key) {
+    ArrayList<Integer> seen = new ArrayList<Integer>();
+    ArrayList<Integer> worklist = new ArrayList<Integer>();
+    int[] neighbors = new int[4];
+    worklist.add(0);
+    while (worklist.size() > 0) {
+      int next = worklist.remove(0);
+      if (next == grid.cells() - 1) {
+        return seen;
+      }
+      int count = grid.neighbors(next, neighbors);
+      for (int i = 0; i < count; i++) {
+        if (!seen.contains(neighbors[i])) {
+          if (key.equals("d")) {
+            worklist.add(0, neighbors[i]);
+          }
+          else {
+            worklist.add(neighbors[i]);
+          }
+          seen.add(next);
+        }
+      }
+    }
+    return seen;
+  }
+
+  // tests the visited bits of the solver
+  void testVisited(Tester t) {
+    MazeSolver solver = new MazeSolver(new MazeGrid(10, 10));
+
+    t.checkExpect(solver.visited.length, 2);
+    t.checkExpect(solver.isVisited(70), false);
+    solver.visit(70, 69);
+    t.checkExpect(solver.isVisited(70), true);
+    t.checkExpect(solver.isVisited(6), false);
+    t.checkExpect(solver.parent[70], 69);
+
+    solver.reset(3);
+    t.checkExpect(solver.isVisited(70), false);
+    t.checkExpect(solver.isVisited(3), true);
+    t.checkExpect(solver.parent[3], 3);
+  }
+
+  // tests ontick method
+  void testOnTick(Tester t) {
+    MazeGame testGame = new MazeGame(10, 10);
+
+    t.checkExpect(testGame.seenVertices().size(), 0);
+    t.checkExpect(testGame.pathVertices().size(), 0);
+    t.checkExpect(testGame.tick, 0);
+
+    testGame.onTick();
+    t.checkExpect(testGame.seenVertices().size(), 0);
+    t.checkExpect(testGame.pathVertices().size(), 0);
+    t.checkExpect(testGame.tick, 1);
+
+  }
+
+  // testing the equals method in the edge class
+  void testEdgeEquals(Tester t) {
+    initData();
+
+    // testing whether the same edge is equal
+    t.checkExpect(this.aToB.equals(this.aToB), true);
+    t.checkExpect(this.fToD.equals(this.fToD), true);
+    t.checkExpect(this.eToC.equals(this.eToC), true);
+
+    // testing whether two different edges are equal
+    t.checkExpect(this.bToE.equals(this.aToE), false);
+    t.checkExpect(this.aToE.equals(this.bToE), false);
+    t.checkExpect(this.cToD.equals(this.fToD), false);
+    t.checkExpect(this.fToD.equals(this.cToD), false);
+
+    // testing whether an edge is equal to a null value
+    t.checkExpect(this.eToC == null, false);
+    t.checkExpect(this.bToE == null, false);
+    t.checkExpect(this.aToB == null, false);
+
+    // testing whether two edges of the same weight are equal
+    t.checkExpect(this.aToE.equals(this.bToF), false);
+    t.checkExpect(this.bToF.equals(this.aToE), false);
+    t.checkExpect(this.fToD.equals(this.bToF), false);
+    t.checkExpect(this.fToD.equals(this.aToE), false);
+
+    // testing whether two edges with the same vertextes but different weights are
+    // equal
+    t.checkExpect(this.fToD.equals(new Edge(this.f, this.d, 30)), false);
+    t.checkExpect(this.bToF.equals(new Edge(this.b, this.f, 100)), false);
+    t.checkExpect(this.cToD.equals(new Edge(this.c, this.d, 50)), false);
+
+    // testing whether two edges with flipped from and to vertextes are equal
+    t.checkExpect(this.bToF.equals(new Edge(this.f, this.b, 50)), true);
+    t.checkExpect(this.bToC.equals(new Edge(this.c, this.b, 40)), true);
+    t.checkExpect(this.eToC.equals(new Edge(this.c, this.e, 15)), true);
+
+    // testing whether two edges with flipped from and to vertextes and different
+    // weights are equal
+    t.checkExpect(this.bToF.equals(new Edge(this.f, this.b, 10)), false);
+    t.checkExpect(this.bToC.equals(new Edge(this.c, this.b, 15)), false);
+    t.checkExpect(this.eToC.equals(new Edge(this.c, this.e, 20)), false);
+
+  }
+
+  // testing the hashCode in the edge class
+  void testEdgeHashCode(Tester t) {
+    initData();
+
+    // testing the hashcode of each edge
+    t.checkExpect(this.aToB.hashCode(), 61);
+    t.checkExpect(this.aToE.hashCode(), 2877532);
+    t.checkExpect(this.bToF.hashCode(), 2878524);
+    t.checkExpect(this.bToC.hashCode(), 1063);
+    t.checkExpect(this.bToE.hashCode(), 2878478);
+    t.checkExpect(this.eToC.hashCode(), 2879419);
+    t.checkExpect(this.cToD.hashCode(), 2879398);
+    t.checkExpect(this.fToD.hashCode(), 92078544);
+
+    // testing that edges of the same weight no longer share a hashcode
+    t.checkExpect(this.bToF.hashCode() == this.fToD.hashCode(), false);
+    t.checkExpect(this.aToE.hashCode() == this.bToF.hashCode(), false);
+
+    // testing to make sure the hashcodes are different
+    t.checkExpect(this.aToB.hashCode() == this.aToE.hashCode(), false);
+    t.checkExpect(this.aToE.hashCode() == this.aToB.hashCode(), false);
+    t.checkExpect(this.bToF.hashCode() == this.bToC.hashCode(), false);
+    t.checkExpect(this.bToC.hashCode() == this.bToF.hashCode(), false);
+    t.checkExpect(this.bToE.hashCode() == this.eToC.hashCode(), false);
+    t.checkExpect(this.eToC.hashCode() == this.bToE.hashCode(), false);
+    t.checkExpect(this.cToD.hashCode() == this.fToD.hashCode(), false);
+    t.checkExpect(this.fToD.hashCode() == this.cToD.hashCode(), false);
+
+    // testing the hashcodes for two equal edges
+    t.checkExpect(this.aToB.hashCode(), (new Edge(this.a, this.b, 30).hashCode()));
+    t.checkExpect(this.aToE.hashCode(), (new Edge(this.a, this.e, 50).hashCode()));
+    t.checkExpect(this.bToF.hashCode(), (new Edge(this.b, this.f, 50).hashCode()));
+    t.checkExpect(this.bToC.hashCode(), (new Edge(this.b, this.c, 40).hashCode()));
+    t.checkExpect(this.bToE.hashCode(), (new Edge(this.b, this.e, 35).hashCode()));
+    t.checkExpect(this.eToC.hashCode(), (new Edge(this.e, this.c, 15).hashCode()));
+    t.checkExpect(this.cToD.hashCode(), (new Edge(this.c, this.d, 25).hashCode()));
+    t.checkExpect(this.fToD.hashCode(), (new Edge(this.f, this.d, 50).hashCode()));
+
+    // testing the hashcodes for when the to and from vertexes are flipped
+    t.checkExpect(this.aToB.hashCode(), (new Edge(this.b, this.a, 30)).hashCode());
+    t.checkExpect(this.aToE.hashCode(), (new Edge(this.e, this.a, 50)).hashCode());
+    t.checkExpect(this.bToF.hashCode(), (new Edge(this.f, this.b, 50)).hashCode());
+    t.checkExpect(this.bToC.hashCode(), (new Edge(this.c, this.b, 40)).hashCode());
+    t.checkExpect(this.bToE.hashCode(), (new Edge(this.e, this.b, 35)).hashCode());
+    t.checkExpect(this.eToC.hashCode(), (new Edge(this.c, this.e, 15)).hashCode());
+    t.checkExpect(this.cToD.hashCode(), (new Edge(this.d, this.c, 25)).hashCode());
+    t.checkExpect(this.fToD.hashCode(), (new Edge(this.d, this.f, 50)).hashCode());
+
+    // testing the hashcodes for when the weight is different
+    t.checkExpect(this.fToD.hashCode() == (new Edge(this.f, this.d, 0)).hashCode(), false);
+    t.checkExpect(this.cToD.hashCode() == (new Edge(this.c, this.d, 10)).hashCode(), false);
+    t.checkExpect(this.eToC.hashCode() == (new Edge(this.e, this.c, 20)).hashCode(), false);
+
+    // testing the hashcodes for when the vertexes are flipped and the weight is
+    // different
+    t.checkExpect(this.fToD.hashCode() == (new Edge(this.d, this.f, 0)).hashCode(), false);
+    t.checkExpect(this.cToD.hashCode() == (new Edge(this.d, this.c, 10)).hashCode(), false);
+    t.checkExpect(this.eToC.hashCode() == (new Edge(this.c, this.e, 20)).hashCode(), false);
+
+  }
+
+  // testing the equals method in the vertex class
+  void testVertexEquals(Tester t) {
+    initData();
+
+    // testing to make sure the same vertexes are equal
+    t.checkExpect(this.a.equals(this.a), true);
+    t.checkExpect(this.b.equals(this.b), true);
+    t.checkExpect(this.c.equals(this.c), true);
+    t.checkExpect(this.d.equals(this.d), true);
+    t.checkExpect(this.e.equals(this.e), true);
+    t.checkExpect(this.f.equals(this.f), true);
+
+    // testing whether different vertextes are equal
+    t.checkExpect(this.a.equals(this.b), false);
+    t.checkExpect(this.c.equals(this.d), false);
+    t.checkExpect(this.e.equals(this.f), false);
+    t.checkExpect(this.b.equals(this.a), false);
+    t.checkExpect(this.d.equals(this.c), false);
+    t.checkExpect(this.f.equals(this.e), false);
+
+    // testing whether vertexes with the same posns are equal
+    t.checkExpect(this.a.equals(new Vertex(new Posn(0, 0), new ArrayList<Edge>())), true);
+    t.checkExpect(this.b.equals(new Vertex(new Posn(0, 1), new ArrayList<Edge>())), true);
+    t.checkExpect(this.c.equals(new Vertex(new Posn(0, 2), new ArrayList<Edge>())), true);
+    t.checkExpect(this.d.equals(new Vertex(new Posn(1, 0), new ArrayList<Edge>())), true);
+    t.checkExpect(this.e.equals(new Vertex(new Posn(1, 1), new ArrayList<Edge>())), true);
+    t.checkExpect(this.f.equals(new Vertex(new Posn(1, 2), new ArrayList<Edge>())), true);
+
+    // testing whether vertexes with flipped posns are equal
+    t.checkExpect(this.b.equals(new Vertex(new Posn(1, 0), new ArrayList<Edge>())), false);
+    t.checkExpect(this.c.equals(new Vertex(new Posn(2, 0), new ArrayList<Edge>())), false);
+    t.checkExpect(this.d.equals(new Vertex(new Posn(0, 1), new ArrayList<Edge>())), false);
+    t.checkExpect(this.f.equals(new Vertex(new Posn(2, 1), new ArrayList<Edge>())), false);
+
+    // testing whether a vertex is equal to null
+    t.checkExpect(this.a == null, false);
+    t.checkExpect(this.c == null, false);
+    t.checkExpect(this.e == null, false);
+    t.checkExpect(this.b == null, false);
+    t.checkExpect(this.d == null, false);
+    t.checkExpect(this.f == null, false);
+
+    // testing that vertexes with different arraylists are still equal, only the
+    // location decides it
+
+    // testing for a
+    t.checkExpect(this.a.equals(new Vertex(new Posn(0, 0), new ArrayList<Edge>())), true);
+    this.a.outer.add(aToE);
+    t.checkExpect(this.a.equals(new Vertex(new Posn(0, 0), new ArrayList<Edge>())), true);
+
+    // testing for b
+    t.checkExpect(this.b.equals(new Vertex(new Posn(0, 1), new ArrayList<Edge>())), true);
+    this.b.outer.add(bToE);
+    t.checkExpect(this.b.equals(new Vertex(new Posn(0, 1), new ArrayList<Edge>())), true);
+
+    // testing for c
+    t.checkExpect(this.c.equals(new Vertex(new Posn(0, 2), new ArrayList<Edge>())), true);
+    this.c.outer.add(eToC);
+    t.checkExpect(this.c.equals(new Vertex(new Posn(0, 2), new ArrayList<Edge>())), true);
+
+    // testing for d
+    t.checkExpect(this.d.equals(new Vertex(new Posn(1, 0), new ArrayList<Edge>())), true);
+    this.d.outer.add(bToC);
+    t.checkExpect(this.d.equals(new Vertex(new Posn(1, 0), new ArrayList<Edge>())), true);
+
+    // testing for e
+    t.checkExpect(this.e.equals(new Vertex(new Posn(1, 1), new ArrayList<Edge>())), true);
+    this.e.outer.add(bToF);
+    t.checkExpect(this.e.equals(new Vertex(new Posn(1, 1), new ArrayList<Edge>())), true);
+
+    // testing for f
+    t.checkExpect(this.f.equals(new Vertex(new Posn(1, 2), new ArrayList<Edge>())), true);
+    this.f.outer.add(cToD);
+    t.checkExpect(this.f.equals(new Vertex(new Posn(1, 2), new ArrayList<Edge>())), true);
+
+  }
+
+  // testing the hashCode in the vertex class
+  void testVertexHashCode(Tester t) {
+    initData();
+
+    // testing the value of the hashCodes
+    t.checkExpect(this.a.hashCode(), 0);
+    t.checkExpect(this.b.hashCode(), 1);
+    t.checkExpect(this.c.hashCode(), 2);
+    t.checkExpect(this.d.hashCode(), 92821);
+    t.checkExpect(this.e.hashCode(), 92822);
+    t.checkExpect(this.f.hashCode(), 92823);
+
+    // testing the hashCodes of two equal values
+
+    t.checkExpect(
+        this.a.hashCode() == (new Vertex(new Posn(0, 0), new ArrayList<Edge>()).hashCode()), true);
+    t.checkExpect(
+        this.b.hashCode() == (new Vertex(new Posn(1, 0), new ArrayList<Edge>()).hashCode()), false);
+    t.checkExpect(
+        this.c.hashCode() == (new Vertex(new Posn(2, 0), new ArrayList<Edge>()).hashCode()), false);
+    t.checkExpect(
+        this.d.hashCode() == (new Vertex(new Posn(0, 1), new ArrayList<Edge>()).hashCode()), false);
+    t.checkExpect(
+        this.e.hashCode() == (new Vertex(new Posn(1, 1), new ArrayList<Edge>()).hashCode()), true);
+    t.checkExpect(
+        this.f.hashCode() == (new Vertex(new Posn(2, 1), new ArrayList<Edge>()).hashCode()), false);
+
+    // testing the hashCode when the posns are switched
+    t.checkExpect(this.b.hashCode(),
+        (new Vertex(new Posn(0, 1), new ArrayList<Edge>()).hashCode()));
+    t.checkExpect(this.c.hashCode(),
+        (new Vertex(new Posn(0, 2), new ArrayList<Edge>()).hashCode()));
+    t.checkExpect(this.d.hashCode(),
+        (new Vertex(new Posn(1, 0), new ArrayList<Edge>()).hashCode()));
+    t.checkExpect(this.f.hashCode(),
+        (new Vertex(new Posn(1, 2), new ArrayList<Edge>()).hashCode()));
+
+    // testing that the hashCode stays the same when edges are added
+
+    // testing for a
+    t.checkExpect(
+        this.a.hashCode() == (new Vertex(new Posn(0, 0), new ArrayList<Edge>())).hashCode(), true);
+    this.a.outer.add(aToE);
+    t.checkExpect(
+        this.a.hashCode() == (new Vertex(new Posn(0, 0), new ArrayList<Edge>())).hashCode(), true);
+
+    // testing for b
+    t.checkExpect(
+        this.b.hashCode() == (new Vertex(new Posn(0, 1), new ArrayList<Edge>())).hashCode(), true);
+    this.b.outer.add(bToE);
+    t.checkExpect(
+        this.b.hashCode() == (new Vertex(new Posn(0, 1), new ArrayList<Edge>())).hashCode(), true);
+
+    // testing for c
+    t.checkExpect(
+        this.c.hashCode() == (new Vertex(new Posn(0, 2), new ArrayList<Edge>())).hashCode(), true);
+    this.c.outer.add(eToC);
+    t.checkExpect(
+        this.c.hashCode() == (new Vertex(new Posn(0, 2), new ArrayList<Edge>())).hashCode(), true);
+
+    // testing for d
+    t.checkExpect(
+        this.d.hashCode() == (new Vertex(new Posn(1, 0), new ArrayList<Edge>())).hashCode(), true);
+    this.d.outer.add(bToC);
+    t.checkExpect(
+        this.d.hashCode() == (new Vertex(new Posn(1, 0), new ArrayList<Edge>())).hashCode(), true);
+
+    // testing for e
+    t.checkExpect(
+        this.e.hashCode() == (new Vertex(new Posn(1, 1), new ArrayList<Edge>())).hashCode(), true);
+    this.e.outer.add(bToF);
+    t.checkExpect(
+        this.e.hashCode() == (new Vertex(new Posn(1, 1), new ArrayList<Edge>())).hashCode(), true);
+
+    // testing for f
+    t.checkExpect(
+        this.f.hashCode() == (new Vertex(new Posn(1, 2), new ArrayList<Edge>())).hashCode(), true);
+    this.f.outer.add(cToD);
+    t.checkExpect(
+        this.f.hashCode() == (new Vertex(new Posn(1, 2), new ArrayList<Edge>())).hashCode(), true);
+
+  }
+
+  // tests the drawEdge method
+  void testDrawEdge(Tester t) {
+    initData();
+
+    // drawing all example edges
+    t.checkExpect(this.aToB.drawEdge(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.aToE.drawEdge(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.bToF.drawEdge(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.bToC.drawEdge(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.bToE.drawEdge(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.eToC.drawEdge(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.cToD.drawEdge(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.fToD.drawEdge(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+  }
+
+  // tests the drawCellVertex method
+  void testDrawCellVertex(Tester t) {
+    initData();
+
+    // drawing the cell vertex for every vertex in examples
+    t.checkExpect(this.a.drawCellVertex(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.b.drawCellVertex(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.c.drawCellVertex(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.d.drawCellVertex(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.e.drawCellVertex(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+    t.checkExpect(this.f.drawCellVertex(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.gray));
+  }
+
+  // testing the makeBoard method
+  void testMakeBoard(Tester t) {
+    initData();
+
+    t.checkExpect(this.mazeGame.maze.grid.cells(), 1600);
+    t.checkExpect(this.mazeGame.maze.makeBoard().cells(), 1600);
+    t.checkExpect(this.mazeGame.maze.makeBoard().width, 40);
+    t.checkExpect(this.mazeGame.maze.makeBoard().height, 40);
+    t.checkExpect(this.mazeGame.maze.makeBoard().openEdges(), 0);
+  }
+
+  // testing the vertex method
+  void testVertex(Tester t) {
+    initData();
+
+    t.checkExpect(this.mazeGame.vertex(0), this.a);
+    t.checkExpect(this.mazeGame.vertex(40), new Vertex(new Posn(0, 1), new ArrayList<Edge>()));
+    t.checkExpect(this.mazeGame.vertex(1), new Vertex(new Posn(1, 0), new ArrayList<Edge>()));
+    t.checkExpect(this.mazeGame.vertex(1599),
+        new Vertex(new Posn(39, 39), new ArrayList<Edge>()));
+  }
+
+  // testing the board method
+  void testBoard(Tester t) {
+    initData();
+    ArrayList<ArrayList<Vertex>> board = this.mazeGame.board();
+
+    t.checkExpect(board.size(), 40);
+    t.checkExpect(board.get(0).size(), 40);
+    t.checkExpect(board.get(3).get(7).location, new Posn(3, 7));
+
+    // every knocked down wall shows up as an edge on both of its vertices
+    int edges = 0;
+    for (ArrayList<Vertex> list : board) {
+      for (Vertex vertex : list) {
+        for (Edge edge : vertex.outer) {
+          t.checkExpect(edge.from.outer.contains(edge), true);
+          t.checkExpect(edge.to.outer.contains(edge), true);
+        }
+        edges += vertex.outer.size();
+      }
+    }
+    t.checkExpect(edges, 1599 * 2);
+  }
+
+  // testing the edgeSort method
+  void testEdgeSort(Tester t) {
+    initData();
+
+    t.checkExpect(this.mazeGame.maze.edgeSort(this.listEdge), new int[] { 5, 6, 0, 4, 3, 1, 2, 7 });
+
+    // edges with the same weight keep the order they were given in
+    t.checkExpect(this.mazeGame.maze.edgeSort(new long[] { this.mazeGame.maze.edgeKey(9, 4),
+        this.mazeGame.maze.edgeKey(0, 6), this.mazeGame.maze.edgeKey(9, 1),
+        this.mazeGame.maze.edgeKey(9999, 0) }), new int[] { 6, 4, 1, 0 });
+    t.checkExpect(this.mazeGame.maze.edgeSort(new long[0]), new int[0]);
+
+  }
+
+  // testing the edgeKey method
+  void testEdgeKey(Tester t) {
+    initData();
+
+    t.checkExpect(this.mazeGame.maze.edgeKey(0, 7), 7L);
+    t.checkExpect(this.mazeGame.maze.edgeKey(1, 0), 4294967296L);
+    t.checkExpect(this.mazeGame.maze.edgeKey(30, 5) < this.mazeGame.maze.edgeKey(31, 2), true);
+    t.checkExpect(this.mazeGame.maze.edgeKey(30, 5) < this.mazeGame.maze.edgeKey(30, 6), true);
+  }
+
+  // testing the union method
+  void testUnion(Tester t) {
+    UnionFind sets = new UnionFind(6);
+
+    t.checkExpect(sets.sets, 6);
+    t.checkExpect(sets.connected(0, 1), false);
+
+    // using union
+    t.checkExpect(sets.union(0, 1), true);
+    t.checkExpect(sets.connected(0, 1), true);
+    t.checkExpect(sets.sets, 5);
+    t.checkExpect(sets.union(4, 1), true);
+    t.checkExpect(sets.connected(4, 0), true);
+    t.checkExpect(sets.sets, 4);
+
+    // joining cells that are already connected does nothing
+    t.checkExpect(sets.union(1, 4), false);
+    t.checkExpect(sets.sets, 4);
+
+    // union by rank hangs the single cell under the bigger tree
+    t.checkExpect(sets.rank[sets.find(0)], 1);
+    t.checkExpect(sets.parent[4], sets.find(0));
+  }
+
+  // testing the find method
+  void testFind(Tester t) {
+    UnionFind sets = new UnionFind(6);
+    sets.parent = new int[] { 4, 0, 4, 4, 4, 3 };
+
+    t.checkExpect(sets.find(0), 4);
+    t.checkExpect(sets.find(1), 4);
+    t.checkExpect(sets.find(2), 4);
+    t.checkExpect(sets.find(3), 4);
+    t.checkExpect(sets.find(4), 4);
+    t.checkExpect(sets.find(5), 4);
+
+    // finding halves the path it walked
+    sets.parent = new int[] { 0, 0, 1, 2, 3, 4 };
+    t.checkExpect(sets.find(5), 0);
+    t.checkExpect(sets.parent, new int[] { 0, 0, 1, 1, 3, 3 });
+
+    // a long chain needs no recursion
+    UnionFind chain = new UnionFind(200000);
+    for (int cell = 1; cell < 200000; cell++) {
+      chain.parent[cell] = cell - 1;
+    }
+    t.checkExpect(chain.find(199999), 0);
+
+  }
+
+  // tests the minimumSpanningTree method
+  void testMinimumSpanningTree(Tester t) {
+    initData();
+
+    t.checkExpect(this.mazeGame.maze.edgesInTree.length, 1599);
+
+    // every cell ends up with the same representative
+    t.checkExpect(this.mazeGame.maze.representatives.sets, 1);
+    int root = this.mazeGame.maze.representatives.find(0);
+    for (int cell = 0; cell < this.mazeGame.maze.grid.cells(); cell++) {
+      t.checkExpect(this.mazeGame.maze.representatives.find(cell), root);
+    }
+
+    // the edges left in the worklist are the ones that were not used
+    t.checkExpect(this.mazeGame.maze.worklist.length, 3120 - 1599);
+    boolean[] inTree = new boolean[this.mazeGame.maze.grid.edgeSlots()];
+    for (int edge : this.mazeGame.maze.edgesInTree) {
+      inTree[edge] = true;
+    }
+    for (int edge : this.mazeGame.maze.worklist) {
+      t.checkExpect(inTree[edge], false);
+    }
+
+    // a 3x2 board where the fourth edge would close a loop
+    Maze small = new Maze(3, 2, 1);
+    int[] worklist = new int[] { 0, 1, 6, 3, 2, 8, 5 };
+    t.checkExpect(small.minimumSpanningTree(worklist, small.makeBoard()),
+        new int[] { 0, 1, 6, 2, 8 });
+    t.checkExpect(small.edgesInTree, new int[] { 0, 1, 6, 2, 8 });
+    t.checkExpect(small.worklist, new int[] { 3, 5 });
+    t.checkExpect(small.representatives.sets, 1);
+
+  }
+
+  // tests the connect edges method
+  void testConnectEdges(Tester t) {
+    initData();
+    this.mazeGame.maze.connectEdges();
+    for (int test : this.mazeGame.maze.edgesInTree) {
+      t.checkExpect(this.mazeGame.maze.grid.isOpen(test), true);
+    }
+    t.checkExpect(this.mazeGame.maze.grid.openEdges(), 1599);
+
+  }
+  
+  // tests the allEdges method
+  void testAllEdges(Tester t) {
+    initData();
+
+    Maze test = new Maze(40, 30, 1);
+    long[] edges = test.allEdges();
+
+    t.checkExpect(this.mazeGame.maze.allEdges().length, 39 * 40 * 2);
+    t.checkExpect(edges.length, 39 * 30 + 40 * 29);
+    for (long key : edges) {
+      t.checkExpect(test.grid.isEdge((int) key), true);
+      t.checkExpect((key >>> 32) < Maze.MAX_WEIGHT, true);
+    }
+
+  }
+
+  // tests makeScene method
+  void testMakeScene(Tester t) {
+    initData();
+
+    WorldScene scene = new WorldScene(1500, 900);
+
+    WorldImage title = new TextImage("Maze Solver", 75, FontStyle.BOLD_ITALIC, Color.GREEN);
+    scene.placeImageXY(title, 800, 650);
+
+    WorldImage directionD1 = new TextImage("Press 'D' to solve the maze", 20, FontStyle.REGULAR,
+        Color.BLACK);
+    WorldImage directionD2 = new TextImage("via depth-first search", 20, FontStyle.REGULAR,
+        Color.BLACK);
+
+    scene.placeImageXY(directionD1, 800, 700);
+    scene.placeImageXY(directionD2, 800, 718);
+
+    WorldImage directionS1 = new TextImage("Press 'B' to solve the maze", 20, FontStyle.REGULAR,
+        Color.BLACK);
+    WorldImage directionS2 = new TextImage("via breadth-first search", 20, FontStyle.REGULAR,
+        Color.BLACK);
+
+    scene.placeImageXY(directionS1, 800, 737);
+    scene.placeImageXY(directionS2, 800, 755);
+
+    WorldImage directionO1 = new TextImage("Press 'A', 'T' or 'F' to solve it via A*,", 20,
+        FontStyle.REGULAR, Color.BLACK);
+    WorldImage directionO2 = new TextImage("two-way BFS or dead-end filling", 20,
+        FontStyle.REGULAR, Color.BLACK);
+    scene.placeImageXY(directionO1, 800, 774);
+    scene.placeImageXY(directionO2, 800, 792);
+
+    WorldImage directionRestart = new TextImage("Press 'R' to restart the maze", 20,
+        FontStyle.REGULAR, Color.BLACK);
+    scene.placeImageXY(directionRestart, 800, 823);
+
+    WorldImage directionWall = new TextImage("Click a wall to knock it down or put it up", 20,
+        FontStyle.REGULAR, Color.BLACK);
+    scene.placeImageXY(directionWall, 800, 845);
+
+    WorldImage directionView = new TextImage("Arrows move, + and - zoom, [ and ] change the speed",
+        20, FontStyle.REGULAR, Color.BLACK);
+    scene.placeImageXY(directionView, 800, 867);
+
+    WorldImage timer = new TextImage(
+        "Timer: " + Integer.toString((int) this.mazeGame.tick / 20) + " seconds", 20, Color.BLACK);
+    WorldImage finalTimer = new OverlayImage(timer,
+        new RectangleImage(200, 40, OutlineMode.SOLID, Color.PINK));
+
+    scene.placeImageXY(finalTimer, 1100, 730);
+
+    WorldImage dCount = new TextImage("DFS Count: " + Integer.toString(this.mazeGame.dCount), 20,
+        Color.PINK);
+    scene.placeImageXY(dCount, 500, 730);
+
+    WorldImage bCount = new TextImage("BFS Count: " + Integer.toString(this.mazeGame.bCount), 20,
+        Color.PINK);
+    scene.placeImageXY(bCount, 500, 700);
+
+    WorldImage pCount = new TextImage(
+        "Solution Path Count: " + Integer.toString(this.mazeGame.pathVertices().size()), 20,
+        Color.PINK);
+    scene.placeImageXY(pCount, 360, 670);
+
+    WorldImage wDCount = new TextImage(
+        "Wrong DFS Moves: " + Integer.toString(this.mazeGame.wDCount), 20, Color.PINK);
+    scene.placeImageXY(wDCount, 200, 730);
+
+    WorldImage wBCount = new TextImage(
+        "Wrong BFS Moves: " + Integer.toString(this.mazeGame.wBCount), 20, Color.PINK);
+    scene.placeImageXY(wBCount, 200, 700);
+
+    scene.placeImageXY(new TextImage("A* Count: 0", 20, Color.PINK), 500, 760);
+    scene.placeImageXY(new TextImage("Two-way Count: 0", 20, Color.PINK), 500, 790);
+    scene.placeImageXY(new TextImage("Fill Count: 0", 20, Color.PINK), 500, 820);
+    scene.placeImageXY(new TextImage("Wrong A* Moves: 0", 20, Color.PINK), 200, 760);
+    scene.placeImageXY(new TextImage("Wrong Two-way Moves: 0", 20, Color.PINK), 200, 790);
+    scene.placeImageXY(new TextImage("Wrong Fill Moves: 0", 20, Color.PINK), 200, 820);
+
+    // the maze is one picture
+    scene.placeImageXY(new MazeCanvas(this.mazeGame.maze.grid).image,
+        this.mazeGame.boardX * 5, this.mazeGame.boardY * 5);
+
+    t.checkExpect(this.mazeGame.makeScene(), scene);
+  }
+
+  // tests that frames share the pictures of the timer and the counts until
+  // the numbers they show change
+  void testSceneText(Tester t) {
+    MazeGame game = new MazeGame(6, 4, 3);
+    game.makeScene();
+    WorldImage timer = game.timerImage;
+    WorldImage[] counts = game.countImages.clone();
+    t.checkExpect(game.winnerImage, null);
+    game.onTick();
+    game.makeScene();
+    t.checkExpect(game.timerImage == timer, true);
+    t.checkExpect(game.countImages, counts);
+    t.checkExpect(game.countImages[0] == counts[0], true);
+
+    // only the lines whose numbers change are made again
+    game.onKeyEvent("d");
+    game.makeScene();
+    t.checkExpect(game.countImages[0] == counts[0], false);
+    t.checkExpect(game.countImages[0], new TextImage("DFS Count: " + game.dCount, 20,
+        Color.PINK));
+    t.checkExpect(game.countImages[1] == counts[1], true);
+    t.checkExpect(game.countImages[5] == counts[5], true);
+    game.onKeyEvent("b");
+    game.makeScene();
+    t.checkExpect(game.winnerImage != null, true);
+
+    for (int i = 0; i < 20; i++) {
+      game.onTick();
+    }
+    game.makeScene();
+    t.checkExpect(game.timerImage == timer, false);
+    t.checkExpect(game.timerImage, new OverlayImage(new TextImage("Timer: 1 seconds", 20,
+        Color.BLACK), MazeGame.TIMER_BACK));
+  }
+
+  // tests the cell ids of the maze grid
+  void testGridIds(Tester t) {
+    MazeGrid grid = new MazeGrid(3, 2);
+
+    t.checkExpect(grid.cells(), 6);
+    t.checkExpect(grid.id(0, 0), 0);
+    t.checkExpect(grid.id(2, 0), 2);
+    t.checkExpect(grid.id(0, 1), 3);
+    t.checkExpect(grid.id(2, 1), 5);
+    t.checkExpect(grid.x(4), 1);
+    t.checkExpect(grid.y(4), 1);
+    t.checkExpect(grid.x(2), 2);
+    t.checkExpect(grid.y(2), 0);
+
+    t.checkConstructorException(new IllegalArgumentException("A maze needs at least one cell"),
+        "maze.MazeGrid", 0, 4);
+  }
+
+  // tests the edge ids of the maze grid
+  void testGridEdges(Tester t) {
+    MazeGrid grid = new MazeGrid(3, 2);
+
+    t.checkExpect(grid.edgeSlots(), 12);
+    t.checkExpect(grid.eastEdge(4), 8);
+    t.checkExpect(grid.southEdge(1), 3);
+
+    // the east wall of the last column and the south wall of the last row are
+    // the outside of the maze
+    t.checkExpect(grid.isEdge(grid.eastEdge(0)), true);
+    t.checkExpect(grid.isEdge(grid.eastEdge(2)), false);
+    t.checkExpect(grid.isEdge(grid.southEdge(2)), true);
+    t.checkExpect(grid.isEdge(grid.southEdge(3)), false);
+
+    t.checkExpect(grid.edgeFrom(grid.eastEdge(1)), 1);
+    t.checkExpect(grid.edgeTo(grid.eastEdge(1)), 2);
+    t.checkExpect(grid.edgeFrom(grid.southEdge(1)), 1);
+    t.checkExpect(grid.edgeTo(grid.southEdge(1)), 4);
+  }
+
+  // tests knocking down and putting up walls of the maze grid
+  void testGridCarve(Tester t) {
+    MazeGrid grid = new MazeGrid(3, 2);
+
+    t.checkExpect(grid.isOpen(grid.eastEdge(0)), false);
+    grid.carve(grid.eastEdge(0));
+    grid.carve(grid.southEdge(0));
+    t.checkExpect(grid.isOpen(grid.eastEdge(0)), true);
+    t.checkExpect(grid.isOpen(grid.southEdge(0)), true);
+    t.checkExpect(grid.openEdges(), 2);
+
+    grid.close(grid.eastEdge(0));
+    t.checkExpect(grid.isOpen(grid.eastEdge(0)), false);
+    t.checkExpect(grid.isOpen(grid.southEdge(0)), true);
+    t.checkExpect(grid.openEdges(), 1);
+  }
+
+  // tests the neighbors method of the maze grid
+  void testGridNeighbors(Tester t) {
+    MazeGrid grid = new MazeGrid(3, 2);
+    int[] out = new int[4];
+
+    t.checkExpect(grid.neighbors(1, out), 0);
+
+    grid.carve(grid.eastEdge(0));
+    grid.carve(grid.eastEdge(1));
+    grid.carve(grid.southEdge(1));
+    t.checkExpect(grid.neighbors(1, out), 3);
+    t.checkExpect(out, new int[] { 2, 4, 0, 0 });
+    t.checkExpect(grid.neighbors(4, out), 1);
+    t.checkExpect(out[0], 1);
+    t.checkExpect(grid.neighbors(0, out), 1);
+    t.checkExpect(out[0], 1);
+  }
+
+  // tests that the seed decides the maze
+  void testSeed(Tester t) {
+    MazeGame first = new MazeGame(30, 20, 42);
+    MazeGame again = new MazeGame(30, 20, 42);
+    MazeGame other = new MazeGame(30, 20, 43);
+
+    t.checkExpect(first.maze.seed, 42L);
+    t.checkExpect(first.maze.grid.open, again.maze.grid.open);
+    t.checkExpect(first.maze.edgesInTree, again.maze.edgesInTree);
+    t.checkExpect(first.maze.worklist, again.maze.worklist);
+    t.checkExpect(Arrays.equals(first.maze.grid.open, other.maze.grid.open), false);
+
+    // restarting moves on to a new maze that the first seed still decides
+    first.onKeyEvent("r");
+    again.onKeyEvent("r");
+    t.checkExpect(first.maze.grid.open, again.maze.grid.open);
+    t.checkExpect(first.maze.seed == 42L, false);
+  }
+
+  // tests the subSeeds method
+  void testSubSeeds(Tester t) {
+    long[] seeds = Maze.subSeeds(7, 4);
+
+    t.checkExpect(seeds.length, 4);
+    t.checkExpect(seeds, Maze.subSeeds(7, 4));
+    t.checkExpect(Maze.subSeeds(7, 2), Arrays.copyOf(seeds, 2));
+    t.checkExpect(seeds[0] == seeds[1], false);
+    t.checkExpect(seeds[0] == Maze.subSeeds(8, 1)[0], false);
+    t.checkExpect(new Maze(10, 10, seeds[2]).grid.open,
+        new Maze(10, 10, Maze.subSeeds(7, 4)[2]).grid.open);
+  }
+
+  // tests that vertices and edges work as hash keys while the maze is built
+  void testHashKeys(Tester t) {
+    initData();
+    HashMap<Vertex, Integer> cells = new HashMap<Vertex, Integer>();
+    HashSet<Edge> edges = new HashSet<Edge>();
+
+    cells.put(this.a, 0);
+    edges.add(this.aToB);
+    this.a.outer.add(this.aToB);
+    this.b.outer.add(this.aToB);
+
+    // adding edges to a vertex doesn't lose it in the map
+    t.checkExpect(cells.get(this.a), 0);
+    t.checkExpect(cells.get(this.mazeGame.vertex(0)), 0);
+    t.checkExpect(edges.contains(new Edge(this.b, this.a, 30)), true);
+
+    // the views of a whole board all find themselves
+    for (ArrayList<Vertex> list : this.mazeGame.board()) {
+      for (Vertex vertex : list) {
+        cells.put(vertex, this.mazeGame.maze.grid.id(vertex.location.x, vertex.location.y));
+      }
+    }
+    t.checkExpect(cells.size(), 1600);
+    t.checkExpect(cells.get(this.mazeGame.vertex(1234)), 1234);
+  }
+
+  // tests the text method of the maze grid
+  void testGridText(Tester t) {
+    t.checkExpect(this.exampleTree().text(),
+        "+--+--+--+\n"
+        + "|        |\n"
+        + "+  +--+--+\n"
+        + "|        |\n"
+        + "+--+--+--+\n");
+    t.checkExpect(new MazeGrid(1, 1).text(), "+--+\n|  |\n+--+\n");
+  }
+
+  // tests that the batch checks its arguments
+  void testMazeBatch(Tester t) {
+    t.checkConstructorException(new IllegalArgumentException("Unknown solver: x"),
+        "maze.MazeBatch", 10, 10, 5, 1L, "x");
+    t.checkConstructorException(
+        new IllegalArgumentException("A batch can't have a negative number of mazes"),
+        "maze.MazeBatch", 10, 10, -1, 1L, "b");
+    t.checkConstructorException(new IllegalArgumentException("A batch needs at least one thread"),
+        "maze.MazeBatch", 10, 10, 5, 1L, "b", 0);
+  }
+
+  // tests building a batch from the command line
+  void testFromArgs(Tester t) {
+    MazeBatch batch = MazeBatch.fromArgs(new String[] {"30", "20", "5", "42", "d"});
+    t.checkExpect(batch.width, 30);
+    t.checkExpect(batch.height, 20);
+    t.checkExpect(batch.count, 5);
+    t.checkExpect(batch.seed, 42L);
+    t.checkExpect(batch.solver, "d");
+    t.checkExpect(batch.threads, Runtime.getRuntime().availableProcessors());
+    t.checkExpect(MazeBatch.fromArgs(new String[] {"30", "20", "5", "42"}).solver, "b");
+    t.checkExpect(MazeBatch.fromArgs(new String[] {"30", "20", "5", "42", "b", "3"}).threads, 3);
+  }
+
+  // tests solving one maze of a batch
+  void testBatchSolve(Tester t) {
+    Maze maze = new Maze(8, 6, 3);
+    t.checkExpect(new MazeBatch(8, 6, 1, 3, "b").solve(maze), true);
+    int[] path = Arrays.copyOf(maze.solver.path, maze.solver.pathCount);
+    int breadthSeen = maze.solver.seenCount;
+    t.checkExpect(path[0], 47);
+    t.checkExpect(path[path.length - 1], 0);
+
+    // a perfect maze has one path, so depth first finds the same one
+    t.checkExpect(new MazeBatch(8, 6, 1, 3, "d").solve(maze), true);
+    t.checkExpect(Arrays.copyOf(maze.solver.path, maze.solver.pathCount), path);
+    t.checkExpect(maze.solver.seenCount <= maze.grid.cells(), true);
+    t.checkExpect(breadthSeen <= maze.grid.cells(), true);
+  }
+
+  // tests running a batch and its statistics
+  void testBatchRun(Tester t) {
+    StringWriter text = new StringWriter();
+    MazeBatch batch = new MazeBatch(10, 10, 4, 9, "b");
+    batch.run(new PrintWriter(text));
+    String[] lines = text.toString().split("\n");
+    long[] seeds = Maze.subSeeds(9, 4);
+
+    t.checkExpect(lines.length, 6);
+    t.checkExpect(lines[0], "maze\tseed\tpath\tseen\twrong\tgenerateMicros\tsolveMicros");
+    t.checkExpect(lines[5].startsWith("# 4 mazes 10x10 kruskal solver b threads 1: mean path "),
+        true);
+
+    long pathTotal = 0;
+    for (int i = 0; i < 4; i++) {
+      String[] columns = lines[i + 1].split("\t");
+      Maze maze = new Maze(10, 10, seeds[i]);
+      maze.solver.breadthFirst(0, 99);
+      t.checkExpect(columns[0], Integer.toString(i));
+      t.checkExpect(columns[1], Long.toString(seeds[i]));
+      t.checkExpect(columns[2], Integer.toString(maze.solver.pathCount));
+      t.checkExpect(columns[3], Integer.toString(maze.solver.seenCount));
+      t.checkExpect(columns[4], Integer.toString(maze.solver.seenCount - maze.solver.pathCount));
+      pathTotal += maze.solver.pathCount;
+    }
+    t.checkExpect(batch.pathTotal, pathTotal);
+
+    // the same seed gives the same mazes, whatever the timings
+    StringWriter again = new StringWriter();
+    new MazeBatch(10, 10, 4, 9, "b").run(new PrintWriter(again));
+    t.checkExpect(again.toString().split("\n")[3].split("\t")[3],
+        lines[3].split("\t")[3]);
+  }
+
+  // tests the summary of an empty batch
+  void testSummary(Tester t) {
+    MazeBatch batch = new MazeBatch(5, 5, 0, 1, "d");
+    batch.run(new PrintWriter(new StringWriter()));
+    t.checkExpect(batch.summary(), "# 0 mazes 5x5 kruskal solver d threads 1: mean path 0, "
+        + "mean seen 0, mean wrong 0, generate 0 us, solve 0 us, 0 mazes/s");
+  }
+
+  // the given batch output without its timing columns and summary line
+  ArrayList<String> withoutTimings(String output) {
+    ArrayList<String> answer = new ArrayList<String>();
+    for (String line : output.split("\n")) {
+      String[] columns = line.split("\t");
+      if (!line.startsWith("#")) {
+        answer.add(columns[0] + " " + columns[1] + " " + columns[2] + " " + columns[3]);
+      }
+    }
+    return answer;
+  }
+
+  // tests that a batch on many threads makes the same mazes, in the same
+  // order, as one on a single thread
+  void testParallelBatch(Tester t) {
+    StringWriter one = new StringWriter();
+    StringWriter three = new StringWriter();
+    MazeBatch single = new MazeBatch(12, 9, 150, 5, "d", 1);
+    MazeBatch parallel = new MazeBatch(12, 9, 150, 5, "d", 3);
+    single.run(new PrintWriter(one));
+    parallel.run(new PrintWriter(three));
+
+    t.checkExpect(this.withoutTimings(three.toString()).size(), 151);
+    t.checkExpect(this.withoutTimings(three.toString()), this.withoutTimings(one.toString()));
+    t.checkExpect(parallel.pathTotal, single.pathTotal);
+    t.checkExpect(parallel.seenTotal, single.seenTotal);
+    t.checkExpect(parallel.wallNanos > 0, true);
+  }
+
+  // tests one chunk of a batch on its own
+  void testBatchChunk(Tester t) {
+    long[] seeds = Maze.subSeeds(2, 5);
+    BatchChunk chunk = new BatchChunk(new MazeBatch(6, 6, 5, 2, "b"), seeds, 2, 4).call();
+    String[] lines = chunk.lines.toString().split("\n");
+    Maze maze = new Maze(6, 6, seeds[3]);
+    maze.solver.breadthFirst(0, 35);
+
+    t.checkExpect(lines.length, 2);
+    t.checkExpect(lines[0].startsWith("2\t" + seeds[2] + "\t"), true);
+    t.checkExpect(lines[1].startsWith("3\t" + seeds[3] + "\t" + maze.solver.pathCount + "\t"
+        + maze.solver.seenCount + "\t"), true);
+    t.checkExpect(chunk.generateNanos > 0, true);
+  }
+
+  // is the given grid a perfect maze, every cell reachable from the first by
+  // exactly one path?
+  boolean isPerfect(MazeGrid grid) {
+    MazeSolver solver = new MazeSolver(grid);
+    solver.breadthFirst(0, -1);
+    // every cell but the first is pushed once, and adds the cell that
+    // pushed it to seen
+    return grid.openEdges() == grid.cells() - 1 && solver.seenCount == grid.cells() - 1;
+  }
+
+  // tests that boruvka's algo makes perfect mazes, the same for any number
+  // of threads
+  void testBoruvkaMaze(Tester t) {
+    BoruvkaMaze one = new BoruvkaMaze(37, 23, 11, 1);
+    BoruvkaMaze four = new BoruvkaMaze(37, 23, 11, 4);
+
+    t.checkExpect(this.isPerfect(one.grid), true);
+    t.checkExpect(four.grid.open, one.grid.open);
+    t.checkExpect(this.isPerfect(new BoruvkaMaze(1, 1, 3, 2).grid), true);
+    t.checkExpect(this.isPerfect(new BoruvkaMaze(1, 50, 3, 2).grid), true);
+    t.checkExpect(this.isPerfect(new BoruvkaMaze(300, 200, 3, 3).grid), true);
+    t.checkExpect(new BoruvkaMaze(37, 23, 12, 1).grid.open.equals(one.grid.open), false);
+    t.checkExpect(one.rounds > 1, true);
+    t.checkConstructorException(new IllegalArgumentException("A maze needs at least one thread"),
+        "maze.BoruvkaMaze", 5, 5, 1L, 0);
+  }
+
+  // tests that boruvka's algo picks the same tree as kruskal's for the same
+  // weights
+  void testBoruvkaIsKruskal(Tester t) {
+    BoruvkaMaze boruvka = new BoruvkaMaze(29, 17, 5, 3);
+    MazeGrid grid = new MazeGrid(29, 17);
+    ArrayList<Long> keys = new ArrayList<Long>();
+    for (int edge = 0; edge < grid.edgeSlots(); edge++) {
+      if (grid.isEdge(edge)) {
+        keys.add(boruvka.edgeKey(edge));
+      }
+    }
+    Collections.sort(keys);
+    UnionFind sets = new UnionFind(grid.cells());
+    for (long key : keys) {
+      int edge = (int) key;
+      if (sets.union(grid.edgeFrom(edge), grid.edgeTo(edge))) {
+        grid.carve(edge);
+      }
+    }
+    t.checkExpect(boruvka.grid.open, grid.open);
+  }
+
+  // tests the hashed edge weights
+  void testBoruvkaWeights(Tester t) {
+    BoruvkaMaze maze = new BoruvkaMaze(4, 4, 9, 1);
+    t.checkExpect(maze.weight(5), new BoruvkaMaze(2, 2, 9, 1).weight(5));
+    t.checkExpect(maze.weight(5) >= 0, true);
+    t.checkExpect(maze.weight(5) == maze.weight(6), false);
+    t.checkExpect(maze.edgeKey(5), (long) maze.weight(5) << 32 | 5);
+    t.checkExpect(BoruvkaMaze.mix(0), 0L);
+    t.checkExpect(BoruvkaMaze.mix(1) == BoruvkaMaze.mix(2), false);
+  }
+
+  // tests that eller's algo makes perfect mazes, the same for the same seed
+  void testEllerMaze(Tester t) {
+    MazeGrid grid = new MazeGrid(31, 17);
+    new EllerMaze(31, 17, 4).generate(new GridRows(grid));
+    MazeGrid again = new MazeGrid(31, 17);
+    new EllerMaze(31, 17, 4).generate(new GridRows(again));
+    MazeGrid other = new MazeGrid(31, 17);
+    new EllerMaze(31, 17, 5).generate(new GridRows(other));
+
+    t.checkExpect(this.isPerfect(grid), true);
+    t.checkExpect(again.open, grid.open);
+    t.checkExpect(other.open.equals(grid.open), false);
+    for (int size = 1; size < 6; size++) {
+      MazeGrid wide = new MazeGrid(size * 7, size);
+      new EllerMaze(size * 7, size, size).generate(new GridRows(wide));
+      MazeGrid tall = new MazeGrid(size, size * 7);
+      new EllerMaze(size, size * 7, size).generate(new GridRows(tall));
+      t.checkExpect(this.isPerfect(wide), true);
+      t.checkExpect(this.isPerfect(tall), true);
+    }
+    t.checkConstructorException(new IllegalArgumentException("A maze needs at least one cell"),
+        "maze.EllerMaze", 0, 5, 1L);
+  }
+
+  // tests joining the cells of a row
+  void testJoinRow(Tester t) {
+    EllerMaze eller = new EllerMaze(5, 2, 1);
+    eller.group = new int[] {3, 3, 0, 1, 2};
+    eller.joinRow(true);
+    // on the last row every group is joined to its neighbors, except where
+    // two cells are already in the same group
+    t.checkExpect(eller.row, new byte[] {0, MazeGrid.EAST, MazeGrid.EAST, MazeGrid.EAST, 0});
+    t.checkExpect(eller.find(4), 0);
+    t.checkExpect(eller.find(1), 0);
+    t.checkExpect(eller.first[3], 0);
+  }
+
+  // tests carrying the groups of a row down to the next
+  void testCarryDown(Tester t) {
+    EllerMaze eller = new EllerMaze(6, 3, 8);
+    eller.generate(new GridRows(new MazeGrid(6, 3)));
+    eller.group = new int[] {0, 0, 2, 2, 2, 5};
+    eller.joinRow(false);
+    eller.carryDown();
+
+    boolean[] groupDown = new boolean[6];
+    for (int x = 0; x < 6; x++) {
+      if ((eller.row[x] & MazeGrid.SOUTH) != 0) {
+        groupDown[eller.group[x]] = true;
+      }
+    }
+    // every group of the row goes down through at least one cell
+    for (int x = 0; x < 6; x++) {
+      t.checkExpect(groupDown[eller.find(x)], true);
+    }
+    // and the cells that don't go down are each in a group of their own
+    for (int x = 0; x < 6; x++) {
+      for (int y = x + 1; y < 6; y++) {
+        if ((eller.row[x] & MazeGrid.SOUTH) == 0) {
+          t.checkExpect(eller.group[x] == eller.group[y], false);
+        }
+      }
+    }
+  }
+
+  // tests that the streamed text is the text of the whole grid
+  void testTextRows(Tester t) {
+    StringWriter text = new StringWriter();
+    new EllerMaze(9, 7, 3).generate(new TextRows(text));
+    Maze maze = new Maze(9, 7, 3, Maze.ELLER);
+    t.checkExpect(text.toString(), maze.grid.text());
+
+    StringWriter one = new StringWriter();
+    new EllerMaze(1, 1, 3).generate(new TextRows(one));
+    t.checkExpect(one.toString(), "+--+\n|  |\n+--+\n");
+  }
+
+  // tests copying rows into a grid
+  void testGridRows(Tester t) {
+    MazeGrid grid = new MazeGrid(3, 2);
+    GridRows rows = new GridRows(grid);
+    rows.row(1, new byte[] {MazeGrid.EAST, MazeGrid.EAST, 0});
+    rows.row(0, new byte[] {MazeGrid.SOUTH, 0, 0});
+    rows.end();
+    t.checkExpect(grid.open, new byte[] {MazeGrid.SOUTH, 0, 0, MazeGrid.EAST, MazeGrid.EAST, 0});
+  }
+
+  // tests choosing the generator of a maze and a game
+  void testGenerator(Tester t) {
+    Maze eller = new Maze(12, 8, 6, Maze.ELLER);
+    t.checkExpect(eller.generator, "eller");
+    t.checkExpect(this.isPerfect(eller.grid), true);
+    t.checkExpect(eller.solver.breadthFirst(0, 95), true);
+    t.checkExpect(new Maze(12, 8, 6).grid.open, new Maze(12, 8, 6, Maze.KRUSKAL).grid.open);
+    t.checkConstructorException(new IllegalArgumentException("Unknown generator: maze"),
+        "maze.Maze", 12, 8, 6L, "maze");
+
+    MazeGame game = new MazeGame(12, 8, 6, Maze.ELLER);
+    t.checkExpect(game.maze.grid.open, eller.grid.open);
+    game.onKeyEvent("r");
+    t.checkExpect(game.maze.generator, "eller");
+    t.checkExpect(this.isPerfect(game.maze.grid), true);
+  }
+
+  // tests that every generator makes perfect mazes of any shape, the same
+  // for the same seed
+  void testMazeGenerators(Tester t) {
+    for (String name : Maze.GENERATORS) {
+      Maze maze = new Maze(23, 14, 7, name);
+      t.checkExpect(this.isPerfect(maze.grid), true);
+      t.checkExpect(maze.generator, name);
+      t.checkExpect(new Maze(23, 14, 7, name).grid.open, maze.grid.open);
+      t.checkExpect(new Maze(23, 14, 8, name).grid.open.equals(maze.grid.open), false);
+      t.checkExpect(this.isPerfect(new Maze(1, 1, 7, name).grid), true);
+      t.checkExpect(this.isPerfect(new Maze(1, 9, 7, name).grid), true);
+      t.checkExpect(this.isPerfect(new Maze(9, 1, 7, name).grid), true);
+    }
+  }
+
+  // tests looking up a generator by name
+  void testGeneratorFor(Tester t) {
+    t.checkExpect(Maze.generatorFor(Maze.KRUSKAL) instanceof KruskalGenerator, true);
+    t.checkExpect(Maze.generatorFor(Maze.PRIM) instanceof PrimGenerator, true);
+    t.checkExpect(Maze.generatorFor(Maze.SIDEWINDER) instanceof SidewinderGenerator, true);
+    t.checkConstructorException(new IllegalArgumentException("Unknown generator: maze"),
+        "maze.MazeBatch", 5, 5, 1, 1L, "b", 1, "maze");
+  }
+
+  // tests the kruskal generator keeps its worklist and tree in the maze
+  void testKruskalGenerator(Tester t) {
+    Maze maze = new Maze(6, 5, 2);
+    t.checkExpect(maze.edgesInTree.length, 29);
+    t.checkExpect(maze.worklist.length, 49 - 29);
+    t.checkExpect(new Maze(6, 5, 2, Maze.WILSON).edgesInTree, null);
+  }
+
+  // tests the textures the simple generators are known for
+  void testBinaryTreeAndSidewinder(Tester t) {
+    MazeGrid binary = new Maze(8, 6, 3, Maze.BINARY_TREE).grid;
+    MazeGrid sidewinder = new Maze(8, 6, 3, Maze.SIDEWINDER).grid;
+    for (int cell = 0; cell < 48; cell++) {
+      // every cell but the last opens exactly one way
+      t.checkExpect(binary.open[cell] == MazeGrid.EAST || binary.open[cell] == MazeGrid.SOUTH,
+          cell != 47);
+    }
+    for (int x = 0; x < 7; x++) {
+      // the last row of the binary tree and the first of the sidewinder are
+      // one corridor
+      t.checkExpect(binary.isOpen(binary.eastEdge(binary.id(x, 5))), true);
+      t.checkExpect(sidewinder.isOpen(sidewinder.eastEdge(x)), true);
+    }
+  }
+
+  // tests the walls next to a cell and between two cells
+  void testAdjacent(Tester t) {
+    MazeGrid grid = new MazeGrid(3, 2);
+    int[] out = new int[4];
+    t.checkExpect(grid.adjacent(0, out), 2);
+    t.checkExpect(Arrays.copyOf(out, 2), new int[] {1, 3});
+    t.checkExpect(grid.adjacent(4, out), 3);
+    t.checkExpect(Arrays.copyOf(out, 3), new int[] {5, 3, 1});
+    t.checkExpect(new MazeGrid(1, 1).adjacent(0, out), 0);
+    t.checkExpect(grid.edgeBetween(0, 1), 0);
+    t.checkExpect(grid.edgeBetween(1, 0), 0);
+    t.checkExpect(grid.edgeBetween(4, 1), 3);
+    t.checkExpect(grid.edgeBetween(2, 5), 5);
+  }
+
+  // tests the heap of packed keys
+  void testLongHeap(Tester t) {
+    LongHeap heap = new LongHeap(2);
+    t.checkExpect(heap.isEmpty(), true);
+    long[] keys = {50, 3, 99, 3, -7, 20, 64};
+    for (long key : keys) {
+      heap.push(key);
+    }
+    t.checkExpect(heap.size, 7);
+    t.checkExpect(heap.peek(), -7L);
+    long[] popped = new long[7];
+    for (int i = 0; i < 7; i++) {
+      popped[i] = heap.pop();
+    }
+    t.checkExpect(popped, new long[] {-7, 3, 3, 20, 50, 64, 99});
+    t.checkExpect(heap.isEmpty(), true);
+    heap.push(4);
+    heap.clear();
+    t.checkExpect(heap.isEmpty(), true);
+    t.checkException(new RuntimeException("The heap is empty"), heap, "pop");
+  }
+
+  // a 4x3 grid with every wall down, so there are many shortest paths
+  MazeGrid openGrid() {
+    MazeGrid grid = new MazeGrid(4, 3);
+    for (int edge = 0; edge < grid.edgeSlots(); edge++) {
+      if (grid.isEdge(edge)) {
+        grid.carve(edge);
+      }
+    }
+    return grid;
+  }
+
+  // is the last path of the solver a way from the source to the target
+  // through knocked down walls, with the given number of cells?
+  boolean isPath(MazeSolver solver, int source, int target, int length) {
+    boolean steps = true;
+    for (int i = 0; i < solver.pathCount - 1; i++) {
+      int here = solver.path[i];
+      int there = solver.path[i + 1];
+      boolean beside = Math.abs(here - there) == solver.grid.width
+          || (Math.abs(here - there) == 1 && solver.grid.y(here) == solver.grid.y(there));
+      steps = steps && beside && solver.grid.isOpen(solver.grid.edgeBetween(here, there));
+    }
+    return steps && solver.pathCount == length && solver.path[0] == target
+        && solver.path[solver.pathCount - 1] == source;
+  }
+
+  // tests that every search finds the one path through a perfect maze
+  void testSolve(Tester t) {
+    Maze maze = new Maze(30, 20, 4);
+    MazeSolver solver = maze.solver;
+    solver.breadthFirst(0, 599);
+    int[] path = Arrays.copyOf(solver.path, solver.pathCount);
+    for (String key : MazeSolver.KEYS) {
+      t.checkExpect(solver.solve(key, 0, 599), true);
+      t.checkExpect(Arrays.copyOf(solver.path, solver.pathCount), path);
+      t.checkExpect(solver.seenCount <= 600, true);
+      t.checkExpect(solver.solve(key, 123, 123), true);
+      t.checkExpect(solver.pathCount, 1);
+    }
+    t.checkException(new IllegalArgumentException("Unknown search: x"), solver, "solve", "x", 0,
+        599);
+    t.checkExpect(MazeSolver.isKey("t"), true);
+    t.checkExpect(MazeSolver.isKey("r"), false);
+  }
+
+  // tests a* on a maze and on an open grid
+  void testAStar(Tester t) {
+    MazeSolver open = new MazeSolver(this.openGrid());
+    t.checkExpect(open.aStar(0, 11), true);
+    t.checkExpect(this.isPath(open, 0, 11, 6), true);
+    t.checkExpect(open.seenCount < 12, true);
+
+    Maze maze = new Maze(40, 40, 2);
+    maze.solver.aStar(0, 1599);
+    int aStar = maze.solver.seenCount;
+    maze.solver.breadthFirst(0, 1599);
+    t.checkExpect(aStar <= maze.solver.seenCount, true);
+  }
+
+  // tests the manhattan distance between cells
+  void testManhattan(Tester t) {
+    MazeSolver solver = new MazeSolver(new MazeGrid(4, 3));
+    t.checkExpect(solver.manhattan(0, 11), 5);
+    t.checkExpect(solver.manhattan(11, 0), 5);
+    t.checkExpect(solver.manhattan(5, 5), 0);
+    t.checkExpect(solver.manhattan(3, 4), 4);
+  }
+
+  // tests two way bfs, which finds shortest paths and looks at fewer cells
+  // than bfs on a big maze
+  void testTwoWay(Tester t) {
+    MazeSolver open = new MazeSolver(this.openGrid());
+    t.checkExpect(open.twoWay(0, 11), true);
+    t.checkExpect(this.isPath(open, 0, 11, 6), true);
+    t.checkExpect(open.twoWay(5, 6), true);
+    t.checkExpect(this.isPath(open, 5, 6, 2), true);
+
+    Maze maze = new Maze(60, 60, 9);
+    maze.solver.twoWay(0, 3599);
+    int twoWay = maze.solver.seenCount;
+    maze.solver.breadthFirst(0, 3599);
+    t.checkExpect(twoWay < maze.solver.seenCount, true);
+
+    MazeGrid apart = new MazeGrid(3, 1);
+    apart.carve(0);
+    t.checkExpect(new MazeSolver(apart).twoWay(0, 2), false);
+  }
+
+  // tests joining the two halves of a two way path
+  void testJoinPaths(Tester t) {
+    MazeSolver solver = new MazeSolver(new MazeGrid(5, 1));
+    solver.makeExtras();
+    solver.parent = new int[] {0, 0, 1, 0, 0};
+    solver.backParent = new int[] {0, 0, 3, 4, 4};
+    solver.joinPaths(2);
+    t.checkExpect(Arrays.copyOf(solver.path, solver.pathCount), new int[] {4, 3, 2, 1, 0});
+  }
+
+  // tests dead end filling, which fills everything off the path in a
+  // perfect maze and finds a shortest path when there are loops
+  void testDeadEndFill(Tester t) {
+    Maze maze = new Maze(25, 25, 3);
+    t.checkExpect(maze.solver.deadEndFill(0, 624), true);
+    int filled = maze.solver.seenCount - maze.solver.pathCount + 1;
+    t.checkExpect(filled, 625 - maze.solver.pathCount);
+
+    MazeSolver open = new MazeSolver(this.openGrid());
+    t.checkExpect(open.deadEndFill(0, 11), true);
+    t.checkExpect(this.isPath(open, 0, 11, 6), true);
+    // nothing is a dead end on an open grid
+    t.checkExpect(open.degree[5], (byte) 4);
+
+    MazeGrid apart = new MazeGrid(3, 1);
+    apart.carve(0);
+    t.checkExpect(new MazeSolver(apart).deadEndFill(0, 2), false);
+  }
+
+  // tests hanging a maze from its first cell
+  void testMazeTree(Tester t) {
+    MazeTree tree = new MazeTree(this.exampleTree());
+    t.checkExpect(tree.parent, new int[] {0, 0, 1, 0, 3, 4});
+    t.checkExpect(tree.depth, new int[] {0, 1, 2, 1, 2, 3});
+    t.checkExpect(tree.order, new int[] {0, 1, 3, 2, 4, 5});
+    t.checkExpect(tree.levels, 2);
+    t.checkExpect(tree.up, new int[] {0, 0, 0, 0, 1, 0, 0, 0, 3, 0, 4, 3});
+    t.checkExpect(new MazeTree(new MazeGrid(1, 1)).levels, 1);
+
+    MazeGrid apart = new MazeGrid(3, 1);
+    apart.carve(0);
+    t.checkConstructorException(new IllegalArgumentException("Not every cell can be reached"),
+        "maze.MazeTree", apart);
+  }
+
+  // tests finding the ancestors of a cell
+  void testAncestor(Tester t) {
+    MazeTree tree = new MazeTree(this.exampleTree());
+    t.checkExpect(tree.ancestor(5, 0), 5);
+    t.checkExpect(tree.ancestor(5, 1), 4);
+    t.checkExpect(tree.ancestor(5, 2), 3);
+    t.checkExpect(tree.ancestor(5, 3), 0);
+    t.checkExpect(tree.ancestor(2, 2), 0);
+  }
+
+  // tests finding the lowest common ancestor of two cells
+  void testCommonAncestor(Tester t) {
+    MazeTree tree = new MazeTree(this.exampleTree());
+    t.checkExpect(tree.commonAncestor(2, 5), 0);
+    t.checkExpect(tree.commonAncestor(5, 3), 3);
+    t.checkExpect(tree.commonAncestor(4, 5), 4);
+    t.checkExpect(tree.commonAncestor(1, 2), 1);
+    t.checkExpect(tree.commonAncestor(0, 0), 0);
+  }
+
+  // tests distances against searching the maze
+  void testTreeDistance(Tester t) {
+    MazeTree small = new MazeTree(this.exampleTree());
+    t.checkExpect(small.distance(2, 5), 5);
+    t.checkExpect(small.distance(5, 2), 5);
+    t.checkExpect(small.distance(3, 3), 0);
+
+    for (String name : Maze.GENERATORS) {
+      Maze maze = new Maze(37, 29, 3, name);
+      SplittableRandom pick = new SplittableRandom(1);
+      for (int i = 0; i < 20; i++) {
+        int source = pick.nextInt(maze.grid.cells());
+        int target = pick.nextInt(maze.grid.cells());
+        maze.solver.breadthFirst(source, target);
+        t.checkExpect(maze.distance(source, target), maze.solver.pathCount - 1);
+      }
+    }
+  }
+
+  // tests paths against searching the maze
+  void testTreePath(Tester t) {
+    MazeTree small = new MazeTree(this.exampleTree());
+    t.checkExpect(small.path(2, 5), new int[] {2, 1, 0, 3, 4, 5});
+    t.checkExpect(small.path(5, 4), new int[] {5, 4});
+    t.checkExpect(small.path(1, 1), new int[] {1});
+    int[] out = new int[6];
+    t.checkExpect(small.path(3, 2, out), 4);
+    t.checkExpect(Arrays.copyOf(out, 4), new int[] {3, 0, 1, 2});
+
+    Maze maze = new Maze(50, 40, 8, Maze.BACKTRACKER);
+    SplittableRandom pick = new SplittableRandom(2);
+    for (int i = 0; i < 20; i++) {
+      int source = pick.nextInt(maze.grid.cells());
+      int target = pick.nextInt(maze.grid.cells());
+      // the solver's path runs from its target back to its source
+      maze.solver.breadthFirst(target, source);
+      t.checkExpect(maze.path(source, target),
+          Arrays.copyOf(maze.solver.path, maze.solver.pathCount));
+    }
+    t.checkExpect(maze.tree(), maze.tree());
+  }
+
+  // tests caching what was found for pairs of cells either way round,
+  // dropping the entry used longest ago when full
+  void testPathCache(Tester t) {
+    t.checkConstructorException(
+        new IllegalArgumentException("A cache can't hold a negative number of entries"),
+        "maze.PathCache", -1);
+    t.checkExpect(PathCache.key(3, 5), 12884901893L);
+    t.checkExpect(PathCache.key(5, 3), PathCache.key(3, 5));
+    t.checkExpect(new PathCache<Integer>(100).segments.size(), 16);
+    t.checkExpect(new PathCache<Integer>(3).segments.size(), 3);
+
+    PathCache<Integer> cache = new PathCache<Integer>(1);
+    t.checkExpect(cache.get(1, 2), null);
+    cache.put(1, 2, 7);
+    t.checkExpect(cache.get(1, 2), 7);
+    // the other way round is the same entry
+    t.checkExpect(cache.get(2, 1), 7);
+    cache.put(2, 3, 0);
+    t.checkExpect(cache.get(1, 2), null);
+    t.checkExpect(cache.get(3, 2), 0);
+    t.checkExpect(cache.size(), 1);
+    t.checkExpect(cache.hits(), 3L);
+    t.checkExpect(cache.misses(), 2L);
+    t.checkExpect(cache.evictions(), 1L);
+    t.checkExpect(cache.stats(), "cache 1: hits 3, misses 2, evictions 1, hit rate 60%");
+
+    // a segment drops the entry looked up longest ago, not the oldest one
+    CacheSegment<int[]> segment = new CacheSegment<int[]>(2);
+    segment.put(1L, new int[] {1});
+    segment.put(2L, new int[] {2});
+    segment.get(1L);
+    segment.put(3L, new int[] {3});
+    t.checkExpect(segment.containsKey(1L), true);
+    t.checkExpect(segment.containsKey(2L), false);
+
+    PathCache<int[]> none = new PathCache<int[]>(0);
+    none.put(1, 2, new int[] {1, 2});
+    t.checkExpect(none.get(1, 2), null);
+    t.checkExpect(none.size(), 0);
+  }
+
+  // tests answering queries on many threads against the tree index
+  void testMazeQueries(Tester t) {
+    Maze maze = new Maze(30, 20, 4, Maze.WILSON);
+    t.checkConstructorException(new IllegalArgumentException("Queries need at least one thread"),
+        "maze.MazeQueries", maze, 0, 10);
+    MazeQueries queries = new MazeQueries(maze, 3, 50);
+    t.checkException(new IllegalArgumentException("No such cell: 600"), queries, "distance", 0,
+        600);
+    t.checkException(new IllegalArgumentException("No such cell: -1"), queries, "path", -1, 0);
+    t.checkException(new IllegalArgumentException("Every source needs a target"), queries,
+        "distances", new int[2], new int[1]);
+    t.checkException(new IllegalArgumentException("Every source needs a target"), queries,
+        "paths", new int[2], new int[1]);
+
+    SplittableRandom pick = new SplittableRandom(3);
+    int[] sources = new int[3000];
+    int[] targets = new int[3000];
+    for (int i = 0; i < sources.length; i++) {
+      // a few hot pairs asked again and again, either way round, among many
+      // cold ones
+      int pair = i % 2 == 0 ? pick.nextInt(10) : 10 + pick.nextInt(100000);
+      sources[i] = pair * (i % 4 == 0 ? 7 : 13) % 600;
+      targets[i] = pair * (i % 4 == 0 ? 13 : 7) % 600;
+    }
+    int[] distances = queries.distances(sources, targets);
+    int[][] paths = queries.paths(sources, targets);
+    for (int i = 0; i < sources.length; i++) {
+      t.checkExpect(distances[i], maze.distance(sources[i], targets[i]));
+      t.checkExpect(paths[i], maze.path(sources[i], targets[i]));
+    }
+    CachedTree on = queries.current;
+    t.checkExpect(on.tree, maze.tree());
+    t.checkExpect(on.distances.hits() + on.distances.misses(), 3000L);
+    t.checkExpect(on.distances.hits() > 1000, true);
+    t.checkExpect(on.distances.size() <= 50, true);
+    t.checkExpect(on.paths.hits() + on.paths.misses(), 3000L);
+    t.checkExpect(on.paths.hits() > 1000, true);
+    t.checkExpect(queries.distance(sources[0], targets[0]), distances[0]);
+    t.checkExpect(queries.path(targets[1], sources[1]), maze.path(targets[1], sources[1]));
+  }
+
+  // tests that queries after the walls change are answered on the new walls,
+  // not from the tree or the caches of the old ones, even while a batch
+  // started on the old walls is still running
+  void testQueriesAfterEdits(Tester t) {
+    Maze maze = new Maze(2, 2, 5);
+    MazeQueries queries = new MazeQueries(maze, 2, 10);
+    int before = queries.distances(new int[] {0}, new int[] {1})[0];
+    t.checkExpect(before, maze.distance(0, 1));
+    int[] beforePath = queries.paths(new int[] {1}, new int[] {0})[0];
+    // a batch starts on the walls as they are
+    CachedTree first = queries.refresh();
+    t.checkExpect(first == queries.current, true);
+
+    // the one wall standing of the four, knocked down, and another put up,
+    // so the maze is still perfect but 0 and 1 are 1 step apart in one and
+    // 3 in the other
+    int closed = 0;
+    for (int edge : new int[] {0, 1, 3, 4}) {
+      if (!maze.grid.isOpen(edge)) {
+        closed = edge;
+      }
+    }
+    maze.knockDown(closed);
+    maze.putUp(closed == 0 ? 1 : 0);
+
+    // a second batch starts on the new walls, then the first one's chunks
+    // run, and find and cache their answers on the old walls
+    CachedTree second = queries.refresh();
+    t.checkExpect(second == first, false);
+    t.checkExpect(second.tree, maze.tree());
+    int[] old = new int[1];
+    int[][] oldPaths = new int[1][];
+    new QueryChunk(queries, first, new int[] {1}, new int[] {0}, old, null, 0, 1).call();
+    new QueryChunk(queries, first, new int[] {1}, new int[] {0}, null, oldPaths, 0, 1).call();
+    t.checkExpect(old[0], before);
+    t.checkExpect(oldPaths[0], beforePath);
+
+    // none of which the second batch or any after it sees
+    int[] fresh = new int[1];
+    new QueryChunk(queries, second, new int[] {0}, new int[] {1}, fresh, null, 0, 1).call();
+    t.checkExpect(fresh[0], maze.distance(0, 1));
+    t.checkExpect(fresh[0] == before, false);
+    t.checkExpect(queries.distances(new int[] {1}, new int[] {0})[0], fresh[0]);
+    t.checkExpect(queries.paths(new int[] {0}, new int[] {1})[0], maze.path(0, 1));
+    t.checkExpect(queries.current == second, true);
+    t.checkExpect(second.distances.size(), 1);
+    t.checkExpect(first.distances.size(), 1);
+  }
+
+  // tests answering queries read from text, and building them from the
+  // command line
+  void testQueriesRun(Tester t) {
+    MazeQueries queries = MazeQueries.fromArgs(new String[] {"10", "10", "9", "2", "8"});
+    t.checkExpect(queries.threads, 2);
+    t.checkExpect(queries.capacity, 8);
+    t.checkExpect(MazeQueries.fromArgs(new String[] {"10", "10", "9"}).capacity, 4096);
+    t.checkExpect(queries.summary().startsWith("# 0 queries 10x10 threads 2: no caches yet, "),
+        true);
+
+    StringWriter text = new StringWriter();
+    queries.run(new BufferedReader(new StringReader("0 99\n\n  5   7 \n0 99\n")),
+        new PrintWriter(text));
+    String[] lines = text.toString().split("\n");
+    Maze maze = new Maze(10, 10, 9);
+    t.checkExpect(lines.length, 5);
+    t.checkExpect(lines[0], "source\ttarget\tdistance");
+    t.checkExpect(lines[1], "0\t99\t" + maze.distance(0, 99));
+    t.checkExpect(lines[2], "5\t7\t" + maze.distance(5, 7));
+    t.checkExpect(lines[3], lines[1]);
+    t.checkExpect(lines[4].startsWith("# 3 queries 10x10 threads 2: distances cache 8: hits 1, "
+        + "misses 2, evictions 0, hit rate 33%, paths cache 8: hits 0, misses 0, evictions 0, "
+        + "hit rate 0%, "), true);
+    t.checkException(new IllegalArgumentException("Not a source and a target: 1 2 3"), queries,
+        "read", new BufferedReader(new StringReader("1 2 3")), new int[1], new int[1]);
+  }
+
+  // the distance from the source to every cell of the given grid, found by
+  // searching it, -1 for the cells that can't be reached
+  int[] distances(MazeGrid grid, int source) {
+    int[] distance = new int[grid.cells()];
+    Arrays.fill(distance, -1);
+    int[] queue = new int[grid.cells()];
+    int[] around = new int[4];
+    int tail = 0;
+    queue[tail++] = source;
+    distance[source] = 0;
+    for (int head = 0; head < tail; head++) {
+      int count = grid.neighbors(queue[head], around);
+      for (int i = 0; i < count; i++) {
+        if (distance[around[i]] == -1) {
+          distance[around[i]] = distance[queue[head]] + 1;
+          queue[tail++] = around[i];
+        }
+      }
+    }
+    return distance;
+  }
+
+  // do the routes hold the same distances as searching the grid, with a
+  // shortest path from every cell that can be reached?
+  boolean routesHold(IncrementalSolver routes) {
+    int[] expected = this.distances(routes.grid, routes.source);
+    int[] path = new int[routes.grid.cells()];
+    boolean holds = true;
+    for (int cell = 0; cell < expected.length; cell++) {
+      int count = routes.path(cell, path);
+      if (expected[cell] == -1) {
+        holds = holds && routes.distance[cell] == IncrementalSolver.UNREACHED && count == 0;
+      }
+      else {
+        holds = holds && routes.distance[cell] == expected[cell] && count == expected[cell] + 1
+            && path[count - 1] == routes.source;
+        for (int i = 0; i < count - 1; i++) {
+          int here = path[i];
+          int there = path[i + 1];
+          boolean beside = Math.abs(here - there) == routes.grid.width
+              || (Math.abs(here - there) == 1 && routes.grid.y(here) == routes.grid.y(there));
+          holds = holds && beside && routes.grid.isOpen(routes.grid.edgeBetween(here, there));
+        }
+      }
+    }
+    return holds;
+  }
+
+  // tests keeping distances up to date while walls are knocked down and put
+  // back up at random, with and without loops
+  void testIncrementalSolver(Tester t) {
+    for (String name : new String[] {Maze.KRUSKAL, Maze.BACKTRACKER, Maze.BINARY_TREE}) {
+      Maze maze = new Maze(17, 13, 5, name);
+      IncrementalSolver routes = maze.routes();
+      t.checkExpect(this.routesHold(routes), true);
+      t.checkExpect(routes.changedCount, maze.grid.cells());
+      SplittableRandom pick = new SplittableRandom(6);
+      boolean holds = true;
+      for (int i = 0; i < 300; i++) {
+        int edge = pick.nextInt(maze.grid.edgeSlots());
+        if (maze.grid.isEdge(edge)) {
+          // mostly knocking down, so loops form, but walls go up as well
+          if (pick.nextInt(3) == 0) {
+            maze.putUp(edge);
+          }
+          else {
+            maze.knockDown(edge);
+          }
+          holds = holds && this.routesHold(routes);
+        }
+      }
+      t.checkExpect(holds, true);
+    }
+  }
+
+  // tests the cells an edit looks at
+  void testRoutesChanged(Tester t) {
+    // a corridor along the top row of a 4x2 grid
+    MazeGrid grid = new MazeGrid(4, 2);
+    grid.carve(grid.eastEdge(0));
+    grid.carve(grid.eastEdge(1));
+    grid.carve(grid.eastEdge(2));
+    IncrementalSolver routes = new IncrementalSolver(grid, 0);
+    t.checkExpect(routes.distance, new int[] {0, 1, 2, 3, IncrementalSolver.UNREACHED,
+        IncrementalSolver.UNREACHED, IncrementalSolver.UNREACHED, IncrementalSolver.UNREACHED});
+
+    // opening the wall below the end only reaches the one cell beyond it
+    grid.carve(grid.southEdge(3));
+    routes.opened(grid.southEdge(3));
+    t.checkExpect(Arrays.copyOf(routes.changed, routes.changedCount), new int[] {7});
+    t.checkExpect(routes.distance[7], 4);
+
+    // a shortcut lowers only the cells it brings closer
+    grid.carve(grid.southEdge(0));
+    routes.opened(grid.southEdge(0));
+    grid.carve(grid.eastEdge(4));
+    routes.opened(grid.eastEdge(4));
+    t.checkExpect(Arrays.copyOf(routes.changed, routes.changedCount), new int[] {5});
+    grid.carve(grid.eastEdge(5));
+    routes.opened(grid.eastEdge(5));
+    grid.carve(grid.eastEdge(6));
+    routes.opened(grid.eastEdge(6));
+    t.checkExpect(routes.distance[7], 4);
+
+    // a wall up on the way to a cell keeps the cells below it that have
+    // another way in as short
+    grid.close(grid.eastEdge(2));
+    routes.closed(grid.eastEdge(2));
+    t.checkExpect(Arrays.copyOf(routes.changed, routes.changedCount), new int[] {3});
+    t.checkExpect(routes.distance[3], 5);
+    t.checkExpect(routes.distance[7], 4);
+    t.checkExpect(routes.parent[7], 6);
+
+    // cutting off the last two cells leaves them unreachable
+    grid.close(grid.eastEdge(6));
+    routes.closed(grid.eastEdge(6));
+    t.checkExpect(Arrays.copyOf(routes.changed, routes.changedCount), new int[] {7, 3});
+    t.checkExpect(routes.distance[7], IncrementalSolver.UNREACHED);
+    t.checkExpect(routes.path(3, new int[8]), 0);
+    t.checkExpect(this.routesHold(routes), true);
+
+    // and a wall knocked down brings them back
+    grid.carve(grid.eastEdge(2));
+    routes.opened(grid.eastEdge(2));
+    t.checkExpect(Arrays.copyOf(routes.changed, routes.changedCount), new int[] {3, 7});
+    t.checkExpect(routes.distance[7], 4);
+    t.checkExpect(this.routesHold(routes), true);
+
+    // a wall knocked down that brings nothing closer changes nothing, and
+    // nor does putting it back up
+    grid.carve(grid.eastEdge(6));
+    routes.opened(grid.eastEdge(6));
+    t.checkExpect(routes.changedCount, 0);
+    grid.close(grid.eastEdge(6));
+    routes.closed(grid.eastEdge(6));
+    t.checkExpect(routes.changedCount, 0);
+  }
+
+  // tests editing the walls of a maze
+  void testKnockDownPutUp(Tester t) {
+    Maze maze = new Maze(10, 10, 3);
+    t.checkException(new IllegalArgumentException("No wall between two cells: 18"), maze,
+        "knockDown", 18);
+    t.checkException(new IllegalArgumentException("No wall between two cells: 199"), maze,
+        "putUp", 199);
+    MazeTree tree = maze.tree();
+    t.checkExpect(maze.index, tree);
+
+    int edge = 0;
+    while (!maze.grid.isEdge(edge) || maze.grid.isOpen(edge)) {
+      edge += 1;
+    }
+    maze.knockDown(edge);
+    t.checkExpect(maze.grid.isOpen(edge), true);
+    t.checkExpect(maze.index, null);
+    t.checkExpect(maze.routes == null, true);
+    IncrementalSolver routes = maze.routes();
+    maze.putUp(edge);
+    t.checkExpect(maze.grid.isOpen(edge), false);
+    t.checkExpect(maze.routes(), routes);
+    t.checkExpect(this.routesHold(routes), true);
+    // the walls are back the way they were, so the tree is the same
+    t.checkExpect(maze.tree().parent, tree.parent);
+  }
+
+  // tests finding the wall nearest a click
+  void testWallAt(Tester t) {
+    MazeGame game = new MazeGame(5, 4, 1);
+    MazeGrid grid = game.maze.grid;
+    t.checkExpect(game.wallAt(new Posn(18, 14)), grid.eastEdge(grid.id(1, 1)));
+    t.checkExpect(game.wallAt(new Posn(14, 19)), grid.southEdge(grid.id(1, 1)));
+    t.checkExpect(game.wallAt(new Posn(11, 14)), grid.eastEdge(grid.id(0, 1)));
+    t.checkExpect(game.wallAt(new Posn(14, 10)), grid.southEdge(grid.id(1, 0)));
+    t.checkExpect(game.wallAt(new Posn(49, 14)), -1);
+    t.checkExpect(game.wallAt(new Posn(3, 14)), -1);
+    t.checkExpect(game.wallAt(new Posn(14, 2)), -1);
+    t.checkExpect(game.wallAt(new Posn(60, 14)), -1);
+    t.checkExpect(game.wallAt(new Posn(-1, 14)), -1);
+  }
+
+  // tests clicking walls to change the maze while it is solved
+  void testOnMouseClicked(Tester t) {
+    MazeGame game = new MazeGame(8, 6, 2);
+    game.onKeyEvent("b");
+    int path = game.pathVertices().size();
+    MazeGrid grid = game.maze.grid;
+    int[] buffer = game.editPath;
+    t.checkExpect(buffer.length, 48);
+
+    // a wall on the path cuts the maze in two, so there is no path
+    Vertex second = game.pathVertices().get(1);
+    Vertex first = game.pathVertices().get(0);
+    int edge = grid.edgeBetween(grid.id(first.location.x, first.location.y),
+        grid.id(second.location.x, second.location.y));
+    Posn click = new Posn((first.location.x + second.location.x) * 5 + 5,
+        (first.location.y + second.location.y) * 5 + 5);
+    t.checkExpect(game.wallAt(click), edge);
+    game.onMouseClicked(click);
+    t.checkExpect(grid.isOpen(edge), false);
+    t.checkExpect(game.pathVertices().size(), 0);
+    t.checkExpect(game.seenVertices().size() > 0, true);
+    t.checkExpect(game.tick, 0);
+
+    // clicking it again brings the same path back
+    game.onMouseClicked(click);
+    t.checkExpect(grid.isOpen(edge), true);
+    t.checkExpect(game.pathVertices().size(), path);
+    // every click finds its path in the same buffer, and the replay keeps a
+    // copy of it
+    t.checkExpect(game.editPath == buffer, true);
+    t.checkExpect(game.player.trace.path == buffer, false);
+    game.onMouseClicked(new Posn(-5, -5));
+    t.checkExpect(game.pathVertices().size(), path);
+  }
+
+  // tests knocking down a fraction of the walls left standing to make loops
+  void testBraid(Tester t) {
+    t.checkConstructorException(
+        new IllegalArgumentException("The fraction of walls to knock down must be 0 to 1"),
+        "maze.Maze", 5, 5, 1L, Maze.KRUSKAL, 1.5);
+    Maze perfect = new Maze(20, 15, 7);
+    int walls = 19 * 15 + 20 * 14;
+    int standing = walls - 299;
+    t.checkExpect(perfect.worklist.length, standing);
+    t.checkExpect(new Maze(20, 15, 7, Maze.KRUSKAL, 0).grid.text(), perfect.grid.text());
+
+    // kruskal's algo knocks down the first walls of its worklist
+    Maze braided = new Maze(20, 15, 7, Maze.KRUSKAL, 0.25);
+    int knocked = (int) Math.round(standing * 0.25);
+    t.checkExpect(braided.grid.openEdges(), 299 + knocked);
+    t.checkExpect(braided.worklist, Arrays.copyOfRange(perfect.worklist, knocked, standing));
+    t.checkExpect(braided.grid.isOpen(perfect.worklist[0]), true);
+    t.checkExpect(braided.grid.isOpen(perfect.worklist[knocked]), false);
+    t.checkExpect(new Maze(20, 15, 7, Maze.KRUSKAL, 0.25).grid.text(), braided.grid.text());
+    t.checkExpect(new Maze(20, 15, 7, Maze.KRUSKAL, 1).grid.openEdges(), walls);
+
+    // the other generators have their walls found and picked at random
+    Maze backtracker = new Maze(20, 15, 7, Maze.BACKTRACKER, 0.5);
+    t.checkExpect(backtracker.grid.openEdges(), 299 + (int) Math.round(standing * 0.5));
+    t.checkExpect(new Maze(20, 15, 7, Maze.BACKTRACKER, 0.5).grid.text(),
+        backtracker.grid.text());
+    t.checkExpect(new Maze(20, 15, 7, Maze.BINARY_TREE, 1).grid.openEdges(), walls);
+
+    t.checkConstructorException(new IllegalArgumentException("A maze with loops has no tree index"),
+        "maze.MazeTree", braided.grid);
+  }
+
+  // tests that the searches that find the shortest path do so in mazes with
+  // loops, which depth first search doesn't
+  void testShortestInBraided(Tester t) {
+    t.checkExpect(MazeSolver.findsShortest("b"), true);
+    t.checkExpect(MazeSolver.findsShortest("f"), true);
+    t.checkExpect(MazeSolver.findsShortest("d"), false);
+    t.checkExpect(MazeSolver.findsShortest("x"), false);
+
+    boolean longer = false;
+    for (String name : Maze.GENERATORS) {
+      Maze maze = new Maze(31, 23, 9, name, 0.2);
+      SplittableRandom pick = new SplittableRandom(4);
+      for (int i = 0; i < 10; i++) {
+        int source = pick.nextInt(maze.grid.cells());
+        int target = pick.nextInt(maze.grid.cells());
+        maze.solver.breadthFirst(source, target);
+        int shortest = maze.solver.pathCount;
+        for (String key : MazeSolver.SHORTEST) {
+          t.checkExpect(maze.solver.solve(key, source, target), true);
+          t.checkExpect(this.isPath(maze.solver, source, target, shortest), true);
+        }
+        maze.solver.depthFirst(source, target);
+        t.checkExpect(maze.solver.pathCount >= shortest, true);
+        longer = longer || maze.solver.pathCount > shortest;
+      }
+    }
+    t.checkExpect(longer, true);
+  }
+
+  // tests batches and games of mazes with loops
+  void testBraidedBatch(Tester t) {
+    t.checkConstructorException(
+        new IllegalArgumentException("The fraction of walls to knock down must be 0 to 1"),
+        "maze.MazeBatch", 10, 10, 5, 1L, "b", 1, Maze.KRUSKAL, -0.5);
+    MazeBatch batch = MazeBatch.fromArgs(new String[] {"10", "10", "3", "4", "a", "1", "prim",
+        "0.3"});
+    t.checkExpect(batch.braid, 0.3);
+    t.checkExpect(MazeBatch.fromArgs(new String[] {"10", "10", "3", "4"}).braid, 0.0);
+    StringWriter text = new StringWriter();
+    batch.run(new PrintWriter(text));
+    String[] lines = text.toString().split("\n");
+    Maze maze = new Maze(10, 10, Maze.subSeeds(4, 3)[1], Maze.PRIM, 0.3);
+    maze.solver.breadthFirst(0, 99);
+    t.checkExpect(lines[2].split("\t")[2], Integer.toString(maze.solver.pathCount));
+    t.checkExpect(lines[4].startsWith("# 3 mazes 10x10 prim braid 0.3 solver a threads 1: "), true);
+
+    MazeGame game = new MazeGame(10, 8, 3, Maze.WILSON, 0.4);
+    t.checkExpect(game.maze.grid.openEdges() > 79, true);
+    game.onKeyEvent("r");
+    t.checkExpect(game.braid, 0.4);
+    t.checkExpect(game.maze.grid.openEdges() > 79, true);
+  }
+
+  // tests drawing a maze once into a picture
+  void testMazeCanvas(Tester t) {
+    MazeGrid grid = new MazeGrid(3, 2);
+    grid.carve(grid.eastEdge(0));
+    grid.carve(grid.southEdge(0));
+    MazeCanvas canvas = new MazeCanvas(grid);
+    ComputedPixelImage image = canvas.image;
+    t.checkExpect(image.getPixel(0, 0), MazeCanvas.START);
+    t.checkExpect(image.getPixel(8, 8), MazeCanvas.START);
+    t.checkExpect(image.getPixel(15, 3), MazeCanvas.FLOOR);
+    t.checkExpect(image.getPixel(28, 18), MazeCanvas.END);
+    // knocked down walls are gray, the walls standing are clear
+    t.checkExpect(image.getPixel(9, 4), MazeCanvas.FLOOR);
+    t.checkExpect(image.getPixel(4, 9), MazeCanvas.FLOOR);
+    t.checkExpect(image.getPixel(19, 4), MazeCanvas.CLEAR);
+    t.checkExpect(image.getPixel(14, 9), MazeCanvas.CLEAR);
+    t.checkExpect(image.getPixel(9, 9), new Color(0, 0, 0, 0));
+
+    canvas.color(4, MazeCanvas.SEEN_OVERLAY);
+    canvas.color(4, MazeCanvas.PATH_OVERLAY + 2);
+    canvas.color(0, MazeCanvas.SEEN_OVERLAY);
+    t.checkExpect(image.getPixel(14, 14), MazeCanvas.PATH[2]);
+    t.checkExpect(image.getPixel(3, 3), MazeCanvas.SEEN);
+    t.checkExpect(canvas.coloredCount, 2);
+    canvas.clear();
+    t.checkExpect(image.getPixel(14, 14), MazeCanvas.FLOOR);
+    t.checkExpect(image.getPixel(3, 3), MazeCanvas.START);
+    t.checkExpect(canvas.coloredCount, 0);
+
+    grid.close(grid.eastEdge(0));
+    canvas.drawWall(grid.eastEdge(0));
+    t.checkExpect(image.getPixel(9, 4), MazeCanvas.CLEAR);
+  }
+
+  // tests that the picture the game keeps matches drawing the game again
+  // from scratch as it animates
+  void testCanvasFrames(Tester t) {
+    MazeGame game = new MazeGame(12, 9, 4);
+    game.makeScene();
+    MazeCanvas canvas = game.canvas;
+    game.onKeyEvent("b");
+    boolean same = true;
+    while (!game.player.isDone()) {
+      game.onTick();
+      if (game.tick % 37 == 0) {
+        game.makeScene();
+        MazeGame fresh = new MazeGame(12, 9, 4);
+        fresh.player = game.player;
+        fresh.pathBands = game.pathBands;
+        same = same && Arrays.equals(this.pixels(fresh.canvas().image, 120, 90),
+            this.pixels(canvas.image, 120, 90));
+      }
+    }
+    t.checkExpect(same, true);
+    t.checkExpect(game.canvas, canvas);
+    t.checkExpect(canvas.coloredCount > 0, true);
+    // the path ends at the start, in the last quarter
+    t.checkExpect(canvas.image.getPixel(4, 4), MazeCanvas.PATH[3]);
+
+    // solving again starts from a clean maze, and restarting draws a new one
+    game.onKeyEvent("d");
+    t.checkExpect(canvas.coloredCount, 0);
+    game.onKeyEvent("r");
+    t.checkExpect(game.canvas, null);
+  }
+
+  // tests that a maze bigger than the window only draws the window, and
+  // moving it draws the cells it moved onto
+  void testViewport(Tester t) {
+    Maze maze = new Maze(400, 300, 5, Maze.ELLER);
+    MazeGrid grid = maze.grid;
+    MazeCanvas canvas = new MazeCanvas(grid);
+    t.checkExpect(canvas.width, MazeCanvas.VIEW_WIDTH);
+    t.checkExpect(canvas.height, MazeCanvas.VIEW_HEIGHT);
+    t.checkExpect(canvas.image.getPixel(4, 4), MazeCanvas.START);
+
+    // the window can't move past the edges of the maze
+    canvas.pan(-50, -50);
+    t.checkExpect(canvas.left, 0);
+    t.checkExpect(canvas.top, 0);
+    canvas.pan(100000, 100000);
+    t.checkExpect(canvas.left, 4000 - MazeCanvas.VIEW_WIDTH);
+    t.checkExpect(canvas.top, 3000 - MazeCanvas.VIEW_HEIGHT);
+    t.checkExpect(canvas.image.getPixel(canvas.width - 5, canvas.height - 5), MazeCanvas.END);
+
+    // a cell colored in off the window shows once the window moves onto it
+    canvas.moveTo(0, 0);
+    int cell = grid.id(200, 150);
+    canvas.color(cell, MazeCanvas.SEEN_OVERLAY);
+    t.checkExpect(canvas.image.getPixel(4, 4), MazeCanvas.START);
+    canvas.moveTo(1995, 1495);
+    t.checkExpect(canvas.image.getPixel(9, 9), MazeCanvas.SEEN);
+    canvas.clear();
+    t.checkExpect(canvas.image.getPixel(9, 9), MazeCanvas.FLOOR);
+
+    // walls are found through the window wherever it is
+    t.checkExpect(canvas.wallAt(new Posn(13, 9)), grid.eastEdge(cell));
+    t.checkExpect(canvas.wallAt(new Posn(9, 13)), grid.southEdge(cell));
+  }
+
+  // tests zooming out to the pyramid and back in
+  void testZoom(Tester t) {
+    Maze maze = new Maze(2000, 1000, 5, Maze.ELLER);
+    MazeGrid grid = maze.grid;
+    MazeCanvas canvas = new MazeCanvas(grid);
+    canvas.moveTo(1000, 1000);
+    canvas.zoomOut();
+    t.checkExpect(canvas.zoom, 1);
+    t.checkExpect(canvas.mazeWidth(), 10000);
+    // the middle of the window stays on the same cell
+    t.checkExpect(canvas.left + canvas.width / 2, 875);
+    t.checkExpect(canvas.top + canvas.height / 2, 650);
+    // clicking is still possible 5 pixels a cell, but not 2
+    t.checkExpect(canvas.wallAt(new Posn(14, 2)) != -1, true);
+    canvas.zoomOut();
+    t.checkExpect(canvas.zoom, 2);
+    t.checkExpect(canvas.wallAt(new Posn(14, 2)), -1);
+
+    // a pixel a cell, then the maze fits and it zooms out no further
+    canvas.zoomOut();
+    t.checkExpect(canvas.detailed(), false);
+    t.checkExpect(canvas.level(), 0);
+    canvas.zoomOut();
+    t.checkExpect(canvas.level(), 1);
+    t.checkExpect(canvas.mazeWidth(), 1000);
+    canvas.zoomOut();
+    t.checkExpect(canvas.level(), 1);
+    t.checkExpect(canvas.left, 0);
+    t.checkExpect(canvas.image.getPixel(0, 0), MazeCanvas.START);
+    t.checkExpect(canvas.image.getPixel(999, 499), MazeCanvas.END);
+    t.checkExpect(canvas.image.getPixel(1000, 10), MazeCanvas.CLEAR);
+    t.checkExpect(canvas.image.getPixel(10, 10),
+        MazeCanvas.SHADES[canvas.floors(1)[10 * 1000 + 10] & 0xFF]);
+
+    // a cell colored in shows as its block
+    canvas.color(grid.id(21, 20), MazeCanvas.PATH_OVERLAY);
+    t.checkExpect(canvas.image.getPixel(10, 10), MazeCanvas.PATH[0]);
+    canvas.clear();
+    t.checkExpect(canvas.image.getPixel(10, 10),
+        MazeCanvas.SHADES[canvas.floors(1)[10 * 1000 + 10] & 0xFF]);
+
+    for (int i = 0; i < 5; i++) {
+      canvas.zoomIn();
+    }
+    t.checkExpect(canvas.zoom, 0);
+  }
+
+  // tests the pyramid of the floor in blocks of cells
+  void testPyramid(Tester t) {
+    MazeGrid grid = new MazeGrid(3, 2);
+    grid.carve(grid.eastEdge(0));
+    grid.carve(grid.southEdge(0));
+    grid.carve(grid.eastEdge(1));
+    MazeCanvas canvas = new MazeCanvas(grid);
+    t.checkExpect(canvas.levels(), 3);
+    t.checkExpect(canvas.pyramid, null);
+    // a cell is a quarter floor, and a quarter more for each wall down
+    t.checkExpect(canvas.floors(0), new byte[] {(byte) 191, (byte) 127, 63, 63, 63, 63});
+    t.checkExpect(canvas.floors(1), new byte[] {(byte) 111, 63});
+    t.checkExpect(canvas.floors(2), new byte[] {87});
+
+    // knocking down a wall brings every level up to date
+    grid.carve(grid.eastEdge(4));
+    canvas.drawWall(grid.eastEdge(4));
+    t.checkExpect(canvas.floors(0)[4], (byte) 127);
+    t.checkExpect(canvas.floors(1), new byte[] {(byte) 127, 63});
+    t.checkExpect(canvas.floors(2), new byte[] {95});
+  }
+
+  // every pixel of the given picture of the given size
+  int[] pixels(ComputedPixelImage image, int width, int height) {
+    int[] pixels = new int[width * height];
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        pixels[y * width + x] = image.getPixel(x, y).getRGB();
+      }
+    }
+    return pixels;
+  }
+
+  // tests the trace a search leaves
+  void testSearchTrace(Tester t) {
+    Maze maze = new Maze(10, 8, 6);
+    SearchTrace trace = maze.solver.trace("b", 0, 79);
+    t.checkExpect(trace.seen, Arrays.copyOf(maze.solver.seen, maze.solver.seenCount));
+    t.checkExpect(trace.path, Arrays.copyOf(maze.solver.path, maze.solver.pathCount));
+    t.checkExpect(trace.steps(), trace.seen.length + trace.path.length);
+    t.checkExpect(trace.cell(0), 0);
+    t.checkExpect(trace.onPath(trace.seen.length - 1), false);
+    t.checkExpect(trace.cell(trace.seen.length), 79);
+    t.checkExpect(trace.onPath(trace.seen.length), true);
+
+    // the next search doesn't change it
+    int[] seen = trace.seen.clone();
+    maze.solver.trace("d", 79, 0);
+    t.checkExpect(trace.seen, seen);
+    t.checkExpect(SearchTrace.NONE.steps(), 0);
+  }
+
+  // tests replaying a trace some steps a tick
+  void testTracePlayer(Tester t) {
+    SearchTrace trace = new SearchTrace(new int[] {0, 1, 2, 3, 4}, new int[] {4, 0});
+    TracePlayer player = new TracePlayer(trace, 3);
+    t.checkExpect(player.advance(), 0);
+    t.checkExpect(player.shown, 3);
+    t.checkExpect(player.advance(), 3);
+    t.checkExpect(player.shown, 6);
+    t.checkExpect(player.isDone(), false);
+    t.checkExpect(player.advance(), 6);
+    t.checkExpect(player.isDone(), true);
+    t.checkExpect(player.advance(), 7);
+    t.checkExpect(player.shown, 7);
+    t.checkConstructorException(
+        new IllegalArgumentException("The speed must be at least 1 step a tick"),
+        "maze.TracePlayer", trace, 0);
+  }
+
+  // tests that the game replays searches without solving them again until
+  // the walls change, and without marking its vertices
+  void testReplay(Tester t) {
+    MazeGame game = new MazeGame(20, 15, 8);
+    t.checkExpect(game.player.speed, 1);
+    t.checkExpect(new MazeGame(100, 100, 8).player.speed, 4);
+    game.onKeyEvent("b");
+    SearchTrace breadth = game.player.trace;
+    game.onKeyEvent("d");
+    SearchTrace depth = game.player.trace;
+    int solved = game.maze.solver.seenCount;
+    game.onKeyEvent("b");
+    t.checkExpect(game.player.trace == breadth, true);
+    t.checkExpect(game.maze.solver.seenCount, solved);
+    t.checkExpect(game.bCount, breadth.seen.length);
+    t.checkExpect(game.player.shown, 0);
+
+    // faster replays show more steps a tick
+    game.onKeyEvent("]");
+    game.onKeyEvent("]");
+    t.checkExpect(game.player.speed, 4);
+    game.makeScene();
+    game.onTick();
+    game.onTick();
+    t.checkExpect(game.player.shown, 8);
+    t.checkExpect(game.seenVertices().get(7).isSearch, true);
+    t.checkExpect(game.seenVertices().get(8).isSearch, false);
+    // a cell seen more than once is only colored in once
+    t.checkExpect(game.canvas.coloredCount,
+        (int) Arrays.stream(game.player.trace.seen, 0, 8).distinct().count());
+    game.onKeyEvent("[");
+    game.onKeyEvent("[");
+    game.onKeyEvent("[");
+    t.checkExpect(game.player.speed, 1);
+    game.onKeyEvent("d");
+    t.checkExpect(game.player.trace == depth, true);
+    t.checkExpect(game.canvas.coloredCount, 0);
+
+    // an edit changes the walls, so the searches are done again
+    Posn click = new Posn(9, 5);
+    game.onMouseClicked(click);
+    t.checkExpect(game.traces.isEmpty(), true);
+    game.onMouseClicked(click);
+    game.onKeyEvent("d");
+    t.checkExpect(game.player.trace == depth, false);
+    t.checkExpect(game.player.trace.seen, depth.seen);
+
+    // restarting starts the new maze as the constructor does, but keeps the
+    // speed and the click buffer
+    game.onKeyEvent("]");
+    game.onKeyEvent("a");
+    game.onKeyEvent("t");
+    game.onKeyEvent("f");
+    int[] buffer = game.editPath;
+    game.onKeyEvent("r");
+    t.checkExpect(game.traces.isEmpty(), true);
+    t.checkExpect(game.player.trace, SearchTrace.NONE);
+    t.checkExpect(game.player.speed, 2);
+    t.checkExpect(game.canvas, null);
+    t.checkExpect(game.editPath == buffer, true);
+    t.checkExpect(new int[] {game.dCount, game.bCount, game.aCount, game.tCount, game.fCount,
+        game.wDCount, game.wBCount, game.wACount, game.wTCount, game.wFCount}, new int[10]);
+  }
+
+  // tests drawing a whole maze into an ARGB raster
+  void testMazeRaster(Tester t) {
+    // the same picture the game draws, pixel for pixel
+    Maze maze = new Maze(12, 9, 4);
+    MazeRaster raster = new MazeRaster(maze.grid, 10);
+    t.checkExpect(raster.image.getWidth(), 120);
+    t.checkExpect(raster.image.getHeight(), 90);
+    t.checkExpect(raster.pixels,
+        this.pixels(new MazeCanvas(maze.grid).image, 120, 90));
+
+    // the cells seen, then the path in quarters from the end
+    maze.solver.solve("b", 0, maze.grid.cells() - 1);
+    raster.color(maze.solver);
+    t.checkExpect(raster.pixels[4 * 120 + 4], MazeRaster.PATH[3]);
+    t.checkExpect(raster.pixels[84 * 120 + 114], MazeRaster.PATH[0]);
+    int seen = maze.solver.seen[maze.solver.seenCount - 1];
+    boolean onPath = false;
+    for (int i = 0; i < maze.solver.pathCount; i++) {
+      onPath = onPath || maze.solver.path[i] == seen;
+    }
+    t.checkExpect(raster.image.getRGB(maze.grid.x(seen) * 10 + 3, maze.grid.y(seen) * 10 + 3),
+        onPath ? raster.pixels[maze.grid.y(seen) * 1200 + maze.grid.x(seen) * 10]
+            : MazeRaster.SEEN);
+
+    // at 2 pixels a cell, a pixel of floor, its east and south walls and
+    // the corner, which is always clear
+    MazeGrid grid = new MazeGrid(2, 2);
+    grid.carve(grid.eastEdge(0));
+    grid.carve(grid.southEdge(1));
+    t.checkExpect(new MazeRaster(grid, 2).pixels, new int[] {
+        MazeRaster.START, MazeRaster.FLOOR, MazeRaster.FLOOR, MazeRaster.CLEAR,
+        MazeRaster.CLEAR, MazeRaster.CLEAR, MazeRaster.FLOOR, MazeRaster.CLEAR,
+        MazeRaster.FLOOR, MazeRaster.CLEAR, MazeRaster.END, MazeRaster.CLEAR,
+        MazeRaster.CLEAR, MazeRaster.CLEAR, MazeRaster.CLEAR, MazeRaster.CLEAR});
+
+    t.checkConstructorException(new IllegalArgumentException("A cell needs at least 2 pixels"),
+        "maze.MazeRaster", grid, 1);
+    t.checkConstructorException(new IllegalArgumentException("The picture is too big: 90000x60000"),
+        "maze.MazeRaster", new MazeGrid(3, 2), 30000);
+  }
+
+  // tests writing a raster out as a png and reading it back
+  void testMazeRasterWrite(Tester t) {
+    MazeRaster raster = new MazeRaster(new Maze(6, 5, 3).grid, 4);
+    BufferedImage back = this.writeAndRead(raster);
+    t.checkExpect(back.getWidth(), 24);
+    t.checkExpect(back.getHeight(), 20);
+    boolean same = true;
+    for (int y = 0; y < 20; y++) {
+      for (int x = 0; x < 24; x++) {
+        same = same && back.getRGB(x, y) == raster.pixels[y * 24 + x];
+      }
+    }
+    t.checkExpect(same, true);
+  }
+
+  // the picture the given raster writes as a png, read back, or null if it
+  // can't be
+  BufferedImage writeAndRead(MazeRaster raster) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      raster.write(out);
+      return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+    catch (IOException e) {
+      return null;
+    }
+  }
+
+  // tests the quarter of the path each index is in against the conditions
+  // the path used to be drawn with
+  void testBand(Tester t) {
+    t.checkExpect(MazeGame.band(0, 8), 0);
+    t.checkExpect(MazeGame.band(2, 8), 1);
+    t.checkExpect(MazeGame.band(4, 8), 2);
+    t.checkExpect(MazeGame.band(5, 8), 2);
+    t.checkExpect(MazeGame.band(6, 8), 3);
+    t.checkExpect(MazeGame.band(0, 1), 0);
+    boolean same = true;
+    for (int size = 1; size < 60; size++) {
+      for (int i = 0; i < size; i++) {
+        // the last of the four conditions that holds wins
+        int expected = 0;
+        if (i <= size * .50 && i >= size * .25) {
+          expected = 1;
+        }
+        if (i <= size * .75 && i >= size * .50) {
+          expected = 2;
+        }
+        if (i >= size * .75) {
+          expected = 3;
+        }
+        same = same && MazeGame.band(i, size) == expected;
+      }
+    }
+    t.checkExpect(same, true);
+  }
+
+  // tests that solving finds the quarter of every index of the path once,
+  // and that the path cells share one picture per quarter
+  void testMarkBands(Tester t) {
+    MazeGame game = new MazeGame(15, 10, 3);
+    t.checkExpect(game.pathBands, new int[0]);
+    game.onKeyEvent("t");
+    int size = game.pathVertices().size();
+    boolean marked = game.pathBands.length == size;
+    for (int i = 0; i < size; i++) {
+      marked = marked && game.pathBands[i] == MazeGame.band(i, size);
+    }
+    t.checkExpect(marked, true);
+    t.checkExpect(game.pathBands[0], 0);
+    t.checkExpect(game.pathBands[size - 1], 3);
+
+    Vertex last = game.pathVertices().get(size - 1);
+    t.checkExpect(last.drawCorrect(3), new EmptyImage());
+    last.isCorrect = true;
+    t.checkExpect(last.drawCorrect(3) == MazeCanvas.PATH_CELLS[3], true);
+    t.checkExpect(last.drawCorrect4() == last.drawCorrect(3), true);
+    t.checkExpect(last.drawCorrect(0), new RectangleImage(9, 9, OutlineMode.SOLID,
+        new Color(0, 0, 139)));
+
+    // a path found after a wall is edited is marked as well, here the wall
+    // goes up and comes back down
+    game.onMouseClicked(new Posn(5, 5));
+    game.onMouseClicked(new Posn(5, 5));
+    t.checkExpect(game.pathBands.length, size);
+    t.checkExpect(game.pathBands[size - 1], 3);
+  }
+
+  // tests that the views draw themselves with shared pictures, which look
+  // the same as the ones they used to make on every call
+  void testFlyweights(Tester t) {
+    Vertex cell = new Vertex(new Posn(1, 2), new ArrayList<Edge>());
+    Edge edge = new Edge(cell, new Vertex(new Posn(2, 2), new ArrayList<Edge>()), 0);
+    t.checkExpect(cell.drawCellVertex() == new Vertex(new Posn(0, 0), null).drawCellVertex(),
+        true);
+    t.checkExpect(edge.drawEdge() == cell.drawCellVertex(), true);
+    t.checkExpect(cell.drawSearch() == cell.drawCorrect1(), true);
+    t.checkExpect(cell.drawSearch(), new EmptyImage());
+    cell.isSearch = true;
+    cell.isCorrect = true;
+    t.checkExpect(cell.drawSearch() == MazeCanvas.SEEN_CELL, true);
+    t.checkExpect(MazeCanvas.SEEN_CELL,
+        new RectangleImage(9, 9, OutlineMode.SOLID, new Color(173, 216, 230)));
+    t.checkExpect(cell.drawCorrect2() == MazeCanvas.PATH_CELLS[1], true);
+    t.checkExpect(cell.drawCorrect3(), new RectangleImage(9, 9, OutlineMode.SOLID, Color.ORANGE));
+
+    t.checkExpect(MazeGame.INSTRUCTIONS.length, MazeGame.INSTRUCTION_ROWS.length);
+    t.checkExpect(MazeGame.INSTRUCTIONS[6],
+        new TextImage("Press 'R' to restart the maze", 20, FontStyle.REGULAR, Color.BLACK));
+  }
+}